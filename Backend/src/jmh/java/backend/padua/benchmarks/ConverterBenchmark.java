@@ -0,0 +1,56 @@
+package backend.padua.benchmarks;
+
+import backend.padua.data.dto.NewClientDTO;
+import backend.padua.mapperConverters.ClientMapper;
+import backend.padua.mapperConverters.mapperConverter;
+import backend.padua.model.Client;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ConverterBenchmark {
+
+    ModelMapper modelMapper;
+
+    Client client;
+
+    NewClientDTO newClient;
+
+    @Setup
+    public void setUp() {
+
+        modelMapper = new ModelMapper();
+        modelMapper.addConverter(new mapperConverter.ClientToNewDTOconverter());
+        modelMapper.addConverter(new mapperConverter.NewClientDTOToClientConverter());
+
+        client = Fixtures.client();
+        newClient = Fixtures.newClient();
+    }
+
+    @Benchmark
+    public NewClientDTO clientToNewDTOConverter() {
+        return modelMapper.map(client, NewClientDTO.class);
+    }
+
+    @Benchmark
+    public Client newDTOToClientConverter() {
+        return modelMapper.map(newClient, Client.class);
+    }
+
+    @Benchmark
+    public NewClientDTO clientToNewDTOMapper() {
+        return ClientMapper.toNewDTO(client);
+    }
+
+    @Benchmark
+    public Client newDTOToClientMapper() {
+        return ClientMapper.toEntity(newClient);
+    }
+}
@@ -0,0 +1,93 @@
+package backend.padua.benchmarks;
+
+import backend.padua.exceptions.ExceptionResponse;
+import backend.padua.exceptions.ResourceNotFoundException;
+import backend.padua.exceptions.handler.CustomizedResponseEntityExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ExceptionBenchmark {
+
+    static final String MESSAGE = "No records found for this id!";
+
+    @Param({"20", "120"})
+    int depth;
+
+    private CustomizedResponseEntityExceptionHandler handler;
+
+    private WebRequest request;
+
+    @Setup
+    public void setup() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(
+                Map.of("meterRegistry", new SimpleMeterRegistry()));
+        handler = new CustomizedResponseEntityExceptionHandler(beans.getBeanProvider(MeterRegistry.class));
+        request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/products/404"));
+    }
+
+    @Benchmark
+    public String stackTraceException() {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (RuntimeException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String stacklessException() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (RuntimeException ex) {
+            return ex.getMessage();
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ExceptionResponse> stackTraceNotFoundResponse() {
+        try {
+            throwAt(depth, true);
+            return null;
+        } catch (RuntimeException ex) {
+            return handler.handleResourceNotFoundExceptions(ex, request);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ExceptionResponse> stacklessNotFoundResponse() {
+        try {
+            throwAt(depth, false);
+            return null;
+        } catch (RuntimeException ex) {
+            return handler.handleResourceNotFoundExceptions(ex, request);
+        }
+    }
+
+    private static void throwAt(int depth, boolean withStackTrace) {
+        if(depth > 0) {
+            throwAt(depth - 1, withStackTrace);
+            return;
+        }
+
+        if(withStackTrace) throw new RuntimeException(MESSAGE);
+
+        throw new ResourceNotFoundException(MESSAGE);
+    }
+}
@@ -0,0 +1,92 @@
+package backend.padua.benchmarks;
+
+import backend.padua.data.dto.*;
+import backend.padua.data.projections.ProductView;
+import backend.padua.model.Address;
+import backend.padua.model.Category;
+import backend.padua.model.Client;
+import backend.padua.model.Product;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static List<Product> products(int size) {
+
+        Category cat = Category.builder().id(1L).name("Lanches").build();
+
+        List<Product> products = new ArrayList<>(size);
+
+        for (long i = 1; i <= size; i++) {
+            products.add(Product.builder().id(i).name("Produto " + i).price(1000L + 100L * i).category(cat).build());
+        }
+
+        return products;
+    }
+
+    static List<ProductView> productViews(int size) {
+
+        List<ProductView> views = new ArrayList<>(size);
+
+        for (long i = 1; i <= size; i++) {
+            views.add(new ProductView(i, "Produto " + i, 1000L + 100L * i, "Lanches"));
+        }
+
+        return views;
+    }
+
+    static <T> T repository(Class<T> type, String method, Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, invoked, args) -> {
+            if(invoked.getName().equals(method)) return result;
+            if(invoked.getName().equals("toString")) return type.getSimpleName() + " stub";
+            throw new UnsupportedOperationException(invoked.getName());
+        }));
+    }
+
+    static Client client() {
+
+        List<Address> addresses = new ArrayList<>();
+        addresses.add(Address.builder().id(1L).address("Rua").number(10).neighborhood("Bairro")
+                .city("Cidade").state("Estado").cep("10111000").build());
+
+        HashSet<String> telephones = new HashSet<>();
+        telephones.add("12912345678");
+
+        return Client.builder().id(1L).name("Client").email("x@xx.com").cpf("77058753067")
+                .addresses(addresses).telephones(telephones).build();
+    }
+
+    static NewClientDTO newClient() {
+        return NewClientDTO.builder().id(1L).name("Client").email("x@xx.com").cpf("77058753067")
+                .address("Rua").number(1).complement("complement").neighborhood("Bairro").city("Cidade")
+                .state("Estado").cep("10111000").telephone("12912345678").build();
+    }
+
+    static ProductDTO productDTO() {
+        return ProductDTO.builder().id(1L).name("Produto").price(10.0).category("Lanches").build();
+    }
+
+    static CategoryDTO categoryDTO() {
+        return CategoryDTO.builder().id(1L).name("Lanches").build();
+    }
+
+    static ClientDTO clientDTO() {
+        return ClientDTO.builder().id(1L).name("Client").email("x@xx.com").build();
+    }
+
+    static OrderDTO orderDTO() {
+
+        List<String> itens = new ArrayList<>();
+        itens.add("2x Lanche");
+        itens.add("1x Bebida");
+
+        return OrderDTO.builder().id(1L).date("24/08/2023 12:00").clientName("Client")
+                .deliveryAddress("Rua, 10 - Bairro, Cidade/Estado").itens(itens).build();
+    }
+}
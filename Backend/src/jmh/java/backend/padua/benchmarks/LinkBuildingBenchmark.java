@@ -0,0 +1,56 @@
+package backend.padua.benchmarks;
+
+import backend.padua.controllers.CategoryController;
+import backend.padua.controllers.ClientController;
+import backend.padua.controllers.ProductController;
+import backend.padua.hateoas.SelfLinkBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.Link;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class LinkBuildingBenchmark {
+
+    long id = 42L;
+
+    SelfLinkBuilder productLinks;
+
+    @Setup
+    public void setUp() {
+        productLinks = SelfLinkBuilder.of(ProductController.class);
+    }
+
+    @Benchmark
+    public Link productSelfLink() {
+        return linkTo(methodOn(ProductController.class).findById(id)).withSelfRel();
+    }
+
+    @Benchmark
+    public Link categorySelfLink() {
+        return linkTo(methodOn(CategoryController.class).findById(id)).withSelfRel();
+    }
+
+    @Benchmark
+    public Link clientSelfLink() {
+        return linkTo(methodOn(ClientController.class).findById(id)).withSelfRel();
+    }
+
+    @Benchmark
+    public Link productSelfLinkBuilder() {
+        return productLinks.forId(id);
+    }
+
+    @Benchmark
+    public Link productSelfLinkBuilderPerRequest() {
+        return SelfLinkBuilder.of(ProductController.class).forId(id);
+    }
+}
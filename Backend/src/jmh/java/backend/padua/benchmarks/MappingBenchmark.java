@@ -0,0 +1,78 @@
+package backend.padua.benchmarks;
+
+import backend.padua.data.dto.ClientDTO;
+import backend.padua.data.dto.NewClientDTO;
+import backend.padua.data.dto.ProductDTO;
+import backend.padua.mapperConverters.ClientMapper;
+import backend.padua.mapperConverters.ProductMapper;
+import backend.padua.mapperConverters.mapperConverter;
+import backend.padua.model.Client;
+import backend.padua.model.Product;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MappingBenchmark {
+
+    @Param({"10", "1000"})
+    int size;
+
+    ModelMapper modelMapper;
+
+    List<Product> products;
+
+    Client client;
+
+    @Setup
+    public void setUp() {
+
+        modelMapper = new ModelMapper();
+        modelMapper.createTypeMap(Product.class, ProductDTO.class)
+                .<String>addMapping(src -> src.getCategory().getName(), (d, v) -> d.setCategory(v));
+        modelMapper.addConverter(new mapperConverter.ClientToNewDTOconverter());
+        modelMapper.addConverter(new mapperConverter.NewClientDTOToClientConverter());
+
+        products = Fixtures.products(size);
+
+        client = Fixtures.client();
+    }
+
+    @Benchmark
+    public List<ProductDTO> productListModelMapper() {
+        return modelMapper.map(products, new TypeToken<List<ProductDTO>>() {}.getType());
+    }
+
+    @Benchmark
+    public List<ProductDTO> productListMapper() {
+        return ProductMapper.toDTOList(products);
+    }
+
+    @Benchmark
+    public ClientDTO clientModelMapper() {
+        return modelMapper.map(client, ClientDTO.class);
+    }
+
+    @Benchmark
+    public ClientDTO clientMapper() {
+        return ClientMapper.toDTO(client);
+    }
+
+    @Benchmark
+    public NewClientDTO newClientModelMapper() {
+        return modelMapper.map(client, NewClientDTO.class);
+    }
+
+    @Benchmark
+    public NewClientDTO newClientMapper() {
+        return ClientMapper.toNewDTO(client);
+    }
+}
@@ -0,0 +1,66 @@
+package backend.padua.benchmarks;
+
+import backend.padua.controllers.ProductController;
+import backend.padua.data.dto.ProductDTO;
+import backend.padua.mapperConverters.ProductMapper;
+import backend.padua.model.Product;
+import backend.padua.repositories.CategoryRepository;
+import backend.padua.repositories.ProductRepository;
+import backend.padua.services.CategoryService;
+import backend.padua.services.ProductService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ProductServiceBenchmark {
+
+    @Param({"10", "1000"})
+    int size;
+
+    List<Product> products;
+
+    ProductService service;
+
+    @Setup
+    public void setUp() {
+        products = Fixtures.products(size);
+
+        CategoryService categories = new CategoryService(Fixtures.repository(CategoryRepository.class, "findAllViews", List.of()));
+
+        service = new ProductService(Fixtures.repository(ProductRepository.class, "findAllViews", Fixtures.productViews(size)),
+                categories);
+        service.findAll();
+    }
+
+    @Benchmark
+    public List<ProductDTO> findAll() {
+        return service.findAll();
+    }
+
+    @Benchmark
+    public ProductDTO findById() {
+        return service.findById((long) size);
+    }
+
+    @Benchmark
+    public List<ProductDTO> findAllMapping() {
+
+        List<ProductDTO> dtos = ProductMapper.toDTOList(products);
+
+        for (ProductDTO dto : dtos) {
+            dto.add(linkTo(methodOn(ProductController.class).findById(dto.getId())).withSelfRel());
+        }
+
+        return dtos;
+    }
+}
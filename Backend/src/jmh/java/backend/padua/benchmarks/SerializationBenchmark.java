@@ -0,0 +1,76 @@
+package backend.padua.benchmarks;
+
+import backend.padua.data.dto.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.Link;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class SerializationBenchmark {
+
+    ObjectMapper objectMapper;
+
+    ProductDTO product;
+
+    CategoryDTO category;
+
+    ClientDTO client;
+
+    NewClientDTO newClient;
+
+    OrderDTO order;
+
+    @Setup
+    public void setUp() {
+
+        objectMapper = new ObjectMapper();
+
+        product = Fixtures.productDTO();
+        product.add(Link.of("/api/products/1"));
+
+        category = Fixtures.categoryDTO();
+        category.add(Link.of("/api/categories/1"));
+
+        client = Fixtures.clientDTO();
+        client.add(Link.of("/api/clients/1"));
+
+        newClient = Fixtures.newClient();
+        newClient.add(Link.of("/api/clients/1"));
+
+        order = Fixtures.orderDTO();
+        order.add(Link.of("/api/orders/1"));
+    }
+
+    @Benchmark
+    public byte[] productDTO() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] categoryDTO() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(category);
+    }
+
+    @Benchmark
+    public byte[] clientDTO() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(client);
+    }
+
+    @Benchmark
+    public byte[] newClientDTO() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(newClient);
+    }
+
+    @Benchmark
+    public byte[] orderDTO() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+}
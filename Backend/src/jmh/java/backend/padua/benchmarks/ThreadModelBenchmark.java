@@ -0,0 +1,87 @@
+package backend.padua.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ThreadModelBenchmark {
+
+    static final int POOL_SIZE = 10;
+
+    static final int PLATFORM_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    String model;
+
+    @Param({"1000", "5000"})
+    int concurrentRequests;
+
+    @Param({"2"})
+    int queryMillis;
+
+    @Param({"8"})
+    int remoteMillis;
+
+    @Param({"2000"})
+    long connectionTimeoutMillis;
+
+    ExecutorService executor;
+
+    Semaphore connections;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = model.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        connections = new Semaphore(POOL_SIZE, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+
+        List<Future<Integer>> futures = new ArrayList<>(concurrentRequests);
+
+        for (int i = 0; i < concurrentRequests; i++) {
+            futures.add(executor.submit(this::handle));
+        }
+
+        int done = 0;
+
+        for (Future<Integer> future : futures) {
+            done += future.get();
+        }
+
+        return done;
+    }
+
+    private Integer handle() throws InterruptedException {
+
+        Thread.sleep(remoteMillis);
+
+        if(!connections.tryAcquire(connectionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+            return 0;
+        }
+
+        try {
+            Thread.sleep(queryMillis);
+        } finally {
+            connections.release();
+        }
+
+        return 1;
+    }
+}
@@ -0,0 +1,150 @@
+package backend.padua.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule.HalHandlerInstantiator;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+public class CatalogResponseEncoder {
+
+    private final String name;
+
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<EncodedCatalog> current = new AtomicReference<>();
+
+    public CatalogResponseEncoder(String name, ObjectMapper objectMapper) {
+        this.name = name;
+        this.objectMapper = hal(objectMapper);
+    }
+
+    public ResponseEntity<byte[]> respond(MenuSnapshot<?> snapshot, String ifNoneMatch, String acceptEncoding) {
+
+        EncodedCatalog encoded = encode(snapshot);
+
+        boolean gzip = acceptsGzip(acceptEncoding);
+
+        String etag = gzip ? encoded.getGzipEtag() : encoded.getEtag();
+
+        if(matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if(gzip) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(encoded.getGzip().length)
+                    .body(encoded.getGzip());
+        }
+
+        return response
+                .contentLength(encoded.getJson().length)
+                .body(encoded.getJson());
+    }
+
+    public EncodedCatalog encode(MenuSnapshot<?> snapshot) {
+
+        EncodedCatalog encoded = current.get();
+
+        if(encoded != null && encoded.getSnapshot() == snapshot) {
+            return encoded;
+        }
+
+        byte[] json = serialize(snapshot);
+
+        String digest = name + "-" + DigestUtils.md5DigestAsHex(json);
+
+        encoded = new EncodedCatalog(snapshot, "\"" + digest + "\"", "\"" + digest + "-gz\"", json, gzip(json));
+
+        current.set(encoded);
+
+        return encoded;
+    }
+
+    private static ObjectMapper hal(ObjectMapper objectMapper) {
+
+        ObjectMapper mapper = objectMapper.copy();
+
+        mapper.registerModule(new Jackson2HalModule());
+        mapper.setHandlerInstantiator(new HalHandlerInstantiator(new DefaultLinkRelationProvider(),
+                CurieProvider.NONE, MessageResolver.DEFAULTS_ONLY));
+
+        return mapper;
+    }
+
+    private byte[] serialize(MenuSnapshot<?> snapshot) {
+        try {
+            return objectMapper.writeValueAsBytes(snapshot.getItems());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the " + name + " catalog", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+
+        if(ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+
+            if(tag.startsWith("W/")) tag = tag.substring(2);
+
+            if(tag.equals("*") || tag.equals(etag)) return true;
+        }
+
+        return false;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+
+        if(acceptEncoding == null) return false;
+
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.trim().split(";");
+
+            if(parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").equals("q=0");
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,46 @@
+package backend.padua.cache;
+
+public final class EncodedCatalog {
+
+    private final MenuSnapshot<?> snapshot;
+
+    private final String etag;
+
+    private final String gzipEtag;
+
+    private final byte[] json;
+
+    private final byte[] gzip;
+
+    public EncodedCatalog(MenuSnapshot<?> snapshot, String etag, String gzipEtag, byte[] json, byte[] gzip) {
+        this.snapshot = snapshot;
+        this.etag = etag;
+        this.gzipEtag = gzipEtag;
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    public MenuSnapshot<?> getSnapshot() {
+        return snapshot;
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getGzipEtag() {
+        return gzipEtag;
+    }
+
+    public byte[] getJson() {
+        return json;
+    }
+
+    public byte[] getGzip() {
+        return gzip;
+    }
+}
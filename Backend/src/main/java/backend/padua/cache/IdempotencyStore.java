@@ -0,0 +1,124 @@
+package backend.padua.cache;
+
+import backend.padua.exceptions.UnprocessableEntityException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+// Entries live in this instance's memory, so a key is only deduplicated on the node that saw it first.
+public class IdempotencyStore<V> {
+
+    private final int maxEntries;
+
+    private final long ttlNanos;
+
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LinkedHashMap<String, Entry<V>> entries;
+
+    public IdempotencyStore(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    public IdempotencyStore(int maxEntries, Duration ttl, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > IdempotencyStore.this.maxEntries;
+            }
+        };
+    }
+
+    public V execute(String key, Supplier<V> action) {
+        return execute(key, null, action);
+    }
+
+    public V execute(String key, String fingerprint, Supplier<V> action) {
+
+        if(key == null || key.isBlank()) return action.get();
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        Entry<V> existing;
+
+        lock.lock();
+
+        try {
+            long now = clock.getAsLong();
+
+            existing = entries.get(key);
+
+            if(existing != null && existing.expiresAt - now <= 0) {
+                entries.remove(key);
+                existing = null;
+            }
+
+            if(existing == null) {
+                entries.put(key, new Entry<>(mine, fingerprint, now + ttlNanos));
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if(existing != null && !Objects.equals(existing.fingerprint, fingerprint)) {
+            throw new UnprocessableEntityException("Idempotency-Key já utilizada em outra requisição.");
+        }
+
+        if(existing != null) return await(existing.result);
+
+        try {
+            V value = action.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            forget(key, mine);
+            mine.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    public int size() {
+        lock.lock();
+
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void forget(String key, CompletableFuture<V> result) {
+        lock.lock();
+
+        try {
+            Entry<V> current = entries.get(key);
+
+            if(current != null && current.result == result) entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private V await(CompletableFuture<V> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if(ex.getCause() instanceof RuntimeException cause) throw cause;
+            throw ex;
+        }
+    }
+
+    private record Entry<V>(CompletableFuture<V> result, String fingerprint, long expiresAt) {
+    }
+}
@@ -0,0 +1,49 @@
+package backend.padua.cache;
+
+import java.util.*;
+import java.util.function.Function;
+
+public final class MenuSnapshot<T> {
+
+    private final long version;
+
+    private final long builtAt;
+
+    private final List<T> items;
+
+    private final Map<Long, T> byId;
+
+    public MenuSnapshot(long version, List<T> items, Function<T, Long> idFunction) {
+        this.version = version;
+        this.builtAt = System.currentTimeMillis();
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+
+        Map<Long, T> index = new HashMap<>(Math.max(16, items.size() * 2));
+
+        for (T item : items) {
+            index.put(idFunction.apply(item), item);
+        }
+
+        this.byId = Collections.unmodifiableMap(index);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getBuiltAt() {
+        return builtAt;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public T findById(Long id) {
+        return id == null ? null : byId.get(id);
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
@@ -0,0 +1,112 @@
+package backend.padua.cache;
+
+import backend.padua.data.dto.CacheStatsDTO;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class MenuSnapshotCache<T> {
+
+    private final String name;
+
+    private final Supplier<List<T>> loader;
+
+    private final Function<T, Long> idFunction;
+
+    private final AtomicReference<MenuSnapshot<T>> current = new AtomicReference<>();
+
+    private final AtomicLong versions = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final AtomicLong rebuilds = new AtomicLong();
+
+    private final AtomicLong lastRebuildNanos = new AtomicLong();
+
+    private final AtomicLong totalRebuildNanos = new AtomicLong();
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public MenuSnapshotCache(String name, Supplier<List<T>> loader, Function<T, Long> idFunction) {
+        this.name = name;
+        this.loader = loader;
+        this.idFunction = idFunction;
+    }
+
+    public MenuSnapshot<T> get() {
+
+        MenuSnapshot<T> snapshot = current.get();
+
+        if(snapshot != null) {
+            hits.increment();
+            return snapshot;
+        }
+
+        misses.increment();
+
+        return load();
+    }
+
+    public MenuSnapshot<T> rebuild() {
+
+        lock.lock();
+
+        try {
+            long start = System.nanoTime();
+
+            MenuSnapshot<T> snapshot = new MenuSnapshot<>(versions.incrementAndGet(), loader.get(), idFunction);
+
+            current.set(snapshot);
+
+            long elapsed = System.nanoTime() - start;
+
+            rebuilds.incrementAndGet();
+            lastRebuildNanos.set(elapsed);
+            totalRebuildNanos.addAndGet(elapsed);
+
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate() {
+        current.set(null);
+    }
+
+    public CacheStatsDTO stats() {
+
+        MenuSnapshot<T> snapshot = current.get();
+
+        return CacheStatsDTO.builder()
+                .name(name)
+                .version(snapshot == null ? 0 : snapshot.getVersion())
+                .size(snapshot == null ? 0 : snapshot.getItems().size())
+                .hits(hits.sum())
+                .misses(misses.sum())
+                .rebuilds(rebuilds.get())
+                .lastRebuildMicros(lastRebuildNanos.get() / 1_000)
+                .totalRebuildMicros(totalRebuildNanos.get() / 1_000)
+                .build();
+    }
+
+    private MenuSnapshot<T> load() {
+
+        lock.lock();
+
+        try {
+            MenuSnapshot<T> snapshot = current.get();
+
+            return snapshot != null ? snapshot : rebuild();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
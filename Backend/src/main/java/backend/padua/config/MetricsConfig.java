@@ -0,0 +1,46 @@
+package backend.padua.config;
+
+import backend.padua.metrics.QueryCountingInspector;
+import backend.padua.metrics.ServiceTimingAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    static final String HTTP_REQUESTS = "http.server.requests";
+
+    @Bean
+    public MeterFilter latencyPercentilesFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if(!id.getName().equals(HTTP_REQUESTS) && !id.getName().equals(ServiceTimingAspect.TIMER)) {
+                    return config;
+                }
+
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.95, 0.99)
+                        .percentilesHistogram(true)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    @Bean
+    public ServiceTimingAspect serviceTimingAspect(MeterRegistry registry) {
+        return new ServiceTimingAspect(registry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingCustomizer(MeterRegistry registry) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingInspector(registry));
+    }
+}
@@ -0,0 +1,28 @@
+package backend.padua.config;
+
+import backend.padua.journal.OrderJournal;
+import backend.padua.repositories.OrderRejectionRepository;
+import backend.padua.repositories.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(name = "appburguer.orders.journal.enabled", havingValue = "true")
+public class OrderJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public OrderJournal orderJournal(ObjectMapper mapper, OrderRepository orders, OrderRejectionRepository rejections,
+                                     @Value("${appburguer.orders.journal.dir:journal/orders}") String directory,
+                                     @Value("${appburguer.orders.journal.segment-bytes:16777216}") int segmentBytes) throws IOException {
+
+        long floorSeq = Math.max(orders.findMaxJournalSeq().orElse(0L), rejections.findMaxReceipt().orElse(0L));
+
+        return new OrderJournal(Path.of(directory), segmentBytes, mapper, floorSeq);
+    }
+}
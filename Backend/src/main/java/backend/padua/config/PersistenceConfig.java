@@ -0,0 +1,47 @@
+package backend.padua.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PersistenceConfig {
+
+    static final String CURSOR_FETCH = "useCursorFetch";
+
+    @Bean
+    public HibernatePropertiesCustomizer batchingCustomizer(
+            @Value("${appburguer.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+        };
+    }
+
+    // MySQL Connector/J buffers the whole result set unless cursor fetching is on, which would make the
+    // fetch-size hint on the export streams a no-op; an explicit useCursorFetch in the config wins.
+    @Bean
+    public static BeanPostProcessor mysqlCursorFetch(@Value("${appburguer.jpa.cursor-fetch:true}") boolean cursorFetch) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if(cursorFetch && bean instanceof HikariDataSource hikari && isMySql(hikari.getJdbcUrl())
+                        && !hikari.getJdbcUrl().contains(CURSOR_FETCH + "=")
+                        && !hikari.getDataSourceProperties().containsKey(CURSOR_FETCH)) {
+                    hikari.addDataSourceProperty(CURSOR_FETCH, "true");
+                }
+                return bean;
+            }
+        };
+    }
+
+    static boolean isMySql(String jdbcUrl) {
+        return jdbcUrl != null && jdbcUrl.startsWith("jdbc:mysql:");
+    }
+}
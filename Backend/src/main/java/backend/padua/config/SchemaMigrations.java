@@ -0,0 +1,129 @@
+package backend.padua.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Locale;
+
+@Component
+@DependsOn("entityManagerFactory")
+public class SchemaMigrations {
+
+    static final int SEQUENCE_ALLOCATION = 50;
+
+    private final JdbcTemplate jdbc;
+
+    public SchemaMigrations(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        alignSequence("orders", "orders_seq");
+        alignSequence("product", "product_seq");
+        alignSequence("client", "client_seq");
+        alignSequence("address", "address_seq");
+        jdbc.update("update orders set version = 0 where version is null");
+        migrateCents();
+        widenOrderSummary();
+    }
+
+    void widenOrderSummary() {
+
+        Integer clientName = columnSize("order_summary", "client_name");
+
+        if(clientName != null && clientName < 120) {
+            alterColumnType("order_summary", "client_name", "varchar(120)");
+        }
+
+        Integer deliveryAddress = columnSize("order_summary", "delivery_address");
+
+        if(deliveryAddress != null && deliveryAddress <= 300) {
+            alterColumnType("order_summary", "delivery_address", "text");
+        }
+    }
+
+    void migrateCents() {
+
+        if(hasColumn("product", "price")) {
+            jdbc.update("update product set price_cents = round(price * 100)");
+            jdbc.execute("alter table product drop column price");
+        }
+
+        if(hasColumn("order_products", "price")) {
+            jdbc.update("update order_products set price_cents = round(coalesce(price, 0) * 100), " +
+                    "discount_cents = round(coalesce(discount, 0) * 100)");
+            jdbc.update("update orders set total_cents = (select coalesce(sum((p.price_cents - p.discount_cents) * p.quantity), 0) " +
+                    "from order_products p where p.order_id = orders.id)");
+            jdbc.execute("alter table order_products drop column price");
+            jdbc.execute("alter table order_products drop column discount");
+        }
+    }
+
+    void alignSequence(String table, String sequence) {
+
+        Long max = jdbc.queryForObject("select max(id) from " + table, Long.class);
+
+        if(max == null) return;
+
+        long next = max + SEQUENCE_ALLOCATION + 1;
+
+        if(hasTable(sequence)) {
+            jdbc.update("update " + sequence + " set next_val = ? where next_val < ?", next, next);
+            return;
+        }
+
+        jdbc.execute("alter sequence " + sequence + " restart with " + next);
+    }
+
+    void alterColumnType(String table, String column, String type) {
+
+        String product = jdbc.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+
+        if(product != null && (product.startsWith("MySQL") || product.startsWith("MariaDB"))) {
+            jdbc.execute("alter table " + table + " modify column " + column + " " + type);
+            return;
+        }
+
+        jdbc.execute("alter table " + table + " alter column " + column + " set data type " + type);
+    }
+
+    boolean hasColumn(String table, String column) {
+        return columnSize(table, column) != null;
+    }
+
+    Integer columnSize(String table, String column) {
+        return jdbc.execute((ConnectionCallback<Integer>) connection -> {
+            DatabaseMetaData meta = connection.getMetaData();
+
+            for (String[] name : new String[][]{{table, column},
+                    {table.toUpperCase(Locale.ROOT), column.toUpperCase(Locale.ROOT)}}) {
+                try (ResultSet columns = meta.getColumns(connection.getCatalog(), null, name[0], name[1])) {
+                    if(columns.next()) return columns.getInt("COLUMN_SIZE");
+                }
+            }
+
+            return null;
+        });
+    }
+
+    boolean hasTable(String table) {
+        return Boolean.TRUE.equals(jdbc.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData meta = connection.getMetaData();
+
+            for (String name : new String[]{table, table.toUpperCase(Locale.ROOT)}) {
+                try (ResultSet tables = meta.getTables(connection.getCatalog(), null, name, new String[]{"TABLE"})) {
+                    if(tables.next()) return true;
+                }
+            }
+
+            return false;
+        }));
+    }
+}
@@ -0,0 +1,73 @@
+package backend.padua.config;
+
+import backend.padua.model.Category;
+import backend.padua.model.Product;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.SharedCacheMode;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final List<String> REGIONS =
+            List.of(Category.CACHE_REGION, Product.CACHE_REGION, Category.NAME_QUERY_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${appburguer.cache.max-entries:10000}") long maxEntries,
+            @Value("${appburguer.cache.ttl:PT10M}") Duration ttl) {
+
+        CacheManager manager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        for (String region : REGIONS) {
+            create(manager, region, bounded(maxEntries, ttl));
+        }
+
+        create(manager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, bounded(maxEntries, ttl));
+        create(manager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+
+        return manager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> bounded(long maxEntries, Duration ttl) {
+
+        CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+        config.setMaximumSize(OptionalLong.of(maxEntries));
+        config.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+
+        return config;
+    }
+
+    private static void create(CacheManager manager, String region, CaffeineConfiguration<Object, Object> config) {
+
+        if(manager.getCache(region) != null) manager.destroyCache(region);
+
+        manager.createCache(region, config);
+    }
+}
@@ -0,0 +1,53 @@
+package backend.padua.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(name = "appburguer.threads.virtual", havingValue = "true")
+public class VirtualThreadConfig {
+
+    static final String DB_WAIT_MS = "appburguer.threads.db-wait-ms";
+
+    static final String HIKARI_CONNECTION_TIMEOUT = "spring.datasource.hikari.connection-timeout";
+
+    static final long DEFAULT_DB_WAIT_MS = 2000;
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandler() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // Only a default: an explicit spring.datasource.hikari.connection-timeout keeps precedence.
+    @Bean
+    public static BeanPostProcessor connectionWaitLimit(Environment environment) {
+
+        long waitMillis = environment.getProperty(DB_WAIT_MS, Long.class, DEFAULT_DB_WAIT_MS);
+        boolean configured = environment.containsProperty(HIKARI_CONNECTION_TIMEOUT);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if(!configured && bean instanceof HikariDataSource hikari) {
+                    hikari.setConnectionTimeout(waitMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package backend.padua.controllers;
+
+import backend.padua.data.dto.CacheStatsDTO;
+import backend.padua.data.dto.RegionStatsDTO;
+import backend.padua.services.CategoryService;
+import backend.padua.services.ProductService;
+import backend.padua.services.SecondLevelCacheService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/api/cache")
+public class CacheController {
+
+    private ProductService productService;
+
+    private CategoryService categoryService;
+
+    private SecondLevelCacheService secondLevelCache;
+
+    public CacheController(ProductService productService, CategoryService categoryService,
+                           SecondLevelCacheService secondLevelCache) {
+        this.productService = productService;
+        this.categoryService = categoryService;
+        this.secondLevelCache = secondLevelCache;
+    }
+
+    @GetMapping(
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public List<CacheStatsDTO> stats(){
+        return List.of(productService.cacheStats(), categoryService.cacheStats());
+    }
+
+    @GetMapping(value = "/regions",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public List<RegionStatsDTO> regions(){
+        return secondLevelCache.stats();
+    }
+}
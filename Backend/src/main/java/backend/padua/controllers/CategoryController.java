@@ -1,23 +1,28 @@
 package backend.padua.controllers;
 
+import backend.padua.cache.CatalogResponseEncoder;
 import backend.padua.data.dto.CategoryDTO;
+import backend.padua.data.dto.CursorPageDTO;
 import backend.padua.services.CategoryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping(value = "/api/categories")
 public class CategoryController {
 
     private CategoryService service;
 
-    public CategoryController(CategoryService service) {
+    private CatalogResponseEncoder catalog;
+
+    public CategoryController(CategoryService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.catalog = new CatalogResponseEncoder("categories", objectMapper);
     }
 
     @PostMapping(
@@ -47,8 +52,27 @@ public class CategoryController {
             produces = {
                     MediaType.APPLICATION_JSON_VALUE
             })
-    public List<CategoryDTO> findAll(){
-        return service.findAll();
+    public ResponseEntity<byte[]> findAll(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding){
+        return catalog.respond(service.findAllSnapshot(), ifNoneMatch, acceptEncoding);
+    }
+
+    @GetMapping(params = "limit",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public CursorPageDTO<CategoryDTO> findPage(@RequestParam(value = "after", required = false) Long after,
+                                        @RequestParam(value = "limit") Integer limit){
+        return service.findPage(after, limit);
+    }
+
+    @GetMapping(params = {"after", "!limit"},
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public CursorPageDTO<CategoryDTO> findPageAfter(@RequestParam(value = "after") Long after){
+        return service.findPage(after, null);
     }
 
     @GetMapping(value ="/{id}",
@@ -1,25 +1,38 @@
 package backend.padua.controllers;
 
+import backend.padua.data.dto.BulkResultDTO;
 import backend.padua.data.dto.CategoryDTO;
 import backend.padua.data.dto.ClientDTO;
+import backend.padua.data.dto.ClientUpdateStatusDTO;
+import backend.padua.data.dto.CursorPageDTO;
 import backend.padua.data.dto.NewClientDTO;
 import backend.padua.services.ClientService;
+import backend.padua.services.ExportFormat;
+import backend.padua.services.ExportService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 @RestController
+@Validated
 @RequestMapping(value = "/api/clients")
 public class ClientController {
 
     private ClientService service;
 
-    public ClientController(ClientService service) {
+    private ExportService exportService;
+
+    public ClientController(ClientService service, ExportService exportService) {
         this.service = service;
+        this.exportService = exportService;
     }
 
     @PostMapping(
@@ -34,6 +47,18 @@ public class ClientController {
         return service.create(client);
     }
 
+    @PostMapping(value = "/bulk",
+            consumes = {
+                    MediaType.APPLICATION_JSON_VALUE
+            },
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkResultDTO createAll(@RequestBody List<@Valid NewClientDTO> clients){
+        return service.createAll(clients);
+    }
+
     @PutMapping(
             consumes = {
                     MediaType.APPLICATION_JSON_VALUE
@@ -41,8 +66,13 @@ public class ClientController {
             produces = {
                     MediaType.APPLICATION_JSON_VALUE
             })
-    public ClientDTO update(@RequestBody ClientDTO client) {
-        return service.update(client);
+    public ResponseEntity<ClientDTO> update(@RequestBody ClientDTO client) {
+
+        ClientDTO cli = service.update(client);
+
+        return cli.getLink(ClientService.UPDATE_STATUS)
+                .map(status -> ResponseEntity.accepted().location(status.toUri()).body(cli))
+                .orElseGet(() -> ResponseEntity.ok(cli));
     }
 
     @GetMapping(
@@ -53,6 +83,48 @@ public class ClientController {
         return service.findAll();
     }
 
+    @GetMapping(value = "/details",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public List<NewClientDTO> findAllDetailed(){
+        return service.findAllDetailed();
+    }
+
+    @GetMapping(value = "/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            HttpServletRequest request){
+
+        ExportFormat exportFormat = ExportFormat.of(format);
+
+        service.flushPending();
+
+        StreamingResponseBody body = ExportPermits.guard(request, exportService, out -> exportService.exportClients(exportFormat, out));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + exportFormat.fileName("clients") + "\"")
+                .body(body);
+    }
+
+    @GetMapping(params = "limit",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public CursorPageDTO<ClientDTO> findPage(@RequestParam(value = "after", required = false) Long after,
+                                        @RequestParam(value = "limit") Integer limit){
+        return service.findPage(after, limit);
+    }
+
+    @GetMapping(params = {"after", "!limit"},
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public CursorPageDTO<ClientDTO> findPageAfter(@RequestParam(value = "after") Long after){
+        return service.findPage(after, null);
+    }
+
     @GetMapping(value ="/{id}",
             produces = {
                     MediaType.APPLICATION_JSON_VALUE
@@ -61,6 +133,14 @@ public class ClientController {
         return service.findById(id);
     }
 
+    @GetMapping(value ="/{id}/" + ClientService.UPDATE_STATUS,
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public ClientUpdateStatusDTO findUpdateStatus(@PathVariable(value = "id") Long id) {
+        return service.findUpdateStatus(id);
+    }
+
     @DeleteMapping(value = "/{id}")
     public ResponseEntity<?> delete(@PathVariable(value = "id") Long id) {
         service.delete(id);
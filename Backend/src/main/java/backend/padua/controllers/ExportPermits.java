@@ -0,0 +1,46 @@
+package backend.padua.controllers;
+
+import backend.padua.services.ExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class ExportPermits {
+
+    private static final String INTERCEPTOR_KEY = ExportPermits.class.getName() + ".PERMIT";
+
+    private ExportPermits() {
+    }
+
+    static StreamingResponseBody guard(HttpServletRequest request, ExportService exportService, StreamingResponseBody body) {
+
+        exportService.acquire();
+
+        AtomicBoolean held = new AtomicBoolean(true);
+
+        Runnable release = () -> {
+            if(held.compareAndSet(true, false)) exportService.release();
+        };
+
+        // The body may never run (client gone, async timeout), so the async completion releases the permit too.
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(INTERCEPTOR_KEY, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                release.run();
+            }
+        });
+
+        return out -> {
+            try {
+                body.writeTo(out);
+            } finally {
+                release.run();
+            }
+        };
+    }
+}
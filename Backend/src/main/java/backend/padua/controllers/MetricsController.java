@@ -0,0 +1,24 @@
+package backend.padua.controllers;
+
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping(value = "/api/metrics")
+public class MetricsController {
+
+    static final String PROMETHEUS_TEXT = "text/plain;version=0.0.4;charset=utf-8";
+
+    private PrometheusMeterRegistry registry;
+
+    public MetricsController(PrometheusMeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @GetMapping(produces = PROMETHEUS_TEXT)
+    public String scrape() {
+        return registry.scrape();
+    }
+}
@@ -1,22 +1,77 @@
 package backend.padua.controllers;
 
+import backend.padua.cache.IdempotencyStore;
+import backend.padua.data.dto.NewOrderDTO;
 import backend.padua.data.dto.OrderDTO;
-
+import backend.padua.data.dto.OrderReceiptDTO;
+import backend.padua.data.dto.OrderStatusDTO;
+import backend.padua.events.OrderEventBus;
+import backend.padua.services.ExportFormat;
+import backend.padua.services.ExportService;
 import backend.padua.services.OrdersService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
 
 @RestController
 @RequestMapping(value = "/api/orders")
 public class OrdersController {
 
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private OrdersService service;
 
-    public OrdersController(OrdersService service) {
+    private OrderEventBus bus;
+
+    private ExportService exportService;
+
+    private IdempotencyStore<ResponseEntity<?>> placements;
+
+    private ObjectMapper objectMapper;
+
+    public OrdersController(OrdersService service, OrderEventBus bus, ExportService exportService,
+                            ObjectMapper objectMapper,
+                            @Value("${appburguer.idempotency.max-entries:10000}") int maxEntries,
+                            @Value("${appburguer.idempotency.ttl:PT1H}") Duration ttl) {
         this.service = service;
+        this.bus = bus;
+        this.exportService = exportService;
+        this.objectMapper = objectMapper;
+        this.placements = new IdempotencyStore<>(maxEntries, ttl);
+    }
+
+    @PostMapping(
+            consumes = {
+                    MediaType.APPLICATION_JSON_VALUE
+            },
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public ResponseEntity<?> create(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                    @RequestBody @Valid NewOrderDTO order){
+        String fingerprint = idempotencyKey == null ? null : fingerprint(order);
+
+        return placements.execute(idempotencyKey, fingerprint, () -> place(order));
     }
 
     @GetMapping(
@@ -28,6 +83,34 @@ public class OrdersController {
         return service.findAll();
     }
 
+    @GetMapping(value = "/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletRequest request){
+
+        ExportFormat exportFormat = ExportFormat.of(format);
+
+        Date start = toDate(from == null ? LocalDate.EPOCH : from);
+        Date end = toDate((to == null ? LocalDate.now() : to).plusDays(1));
+
+        StreamingResponseBody body = ExportPermits.guard(request, exportService, out -> exportService.exportOrders(start, end, exportFormat, out));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + exportFormat.fileName("orders") + "\"")
+                .body(body);
+    }
+
+    @GetMapping(value = "/stream",
+            produces = {
+                MediaType.TEXT_EVENT_STREAM_VALUE
+            })
+    public SseEmitter stream(){
+        return bus.subscribe();
+    }
+
     @GetMapping(value = "/{id}",
             produces = {
                 MediaType.APPLICATION_JSON_VALUE
@@ -36,9 +119,55 @@ public class OrdersController {
         return service.findById(id);
     }
 
+    @GetMapping(value = "/receipts/{receipt}",
+            produces = {
+                MediaType.APPLICATION_JSON_VALUE
+            })
+    public ResponseEntity<?> findByReceipt(@PathVariable(value = "receipt") Long receipt){
+        return service.findByReceipt(receipt)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.accepted().body(service.toReceipt(receipt)));
+    }
+
+    @PatchMapping(value = "/{id}/status",
+            consumes = {
+                MediaType.APPLICATION_JSON_VALUE
+            },
+            produces = {
+                MediaType.APPLICATION_JSON_VALUE
+            })
+    public OrderStatusDTO updateStatus(@PathVariable(value = "id") Long id, @RequestBody @Valid OrderStatusDTO status){
+        return service.updateStatus(id, status.getStatus());
+    }
+
     @DeleteMapping(value = "/{id}")
     public ResponseEntity<?> delete(@PathVariable(value = "id")Long id){
         service.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    private ResponseEntity<?> place(NewOrderDTO order) {
+
+        if(!service.isJournaled()) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(service.create(order));
+        }
+
+        OrderReceiptDTO receipt = service.accept(order);
+
+        return ResponseEntity.accepted()
+                .location(receipt.getRequiredLink(IanaLinkRelations.SELF).toUri())
+                .body(receipt);
+    }
+
+    private static Date toDate(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private String fingerprint(NewOrderDTO order) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(order)));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint the order request", e);
+        }
+    }
 }
@@ -1,23 +1,33 @@
 package backend.padua.controllers;
 
+import backend.padua.cache.CatalogResponseEncoder;
+import backend.padua.data.dto.BulkResultDTO;
+import backend.padua.data.dto.CursorPageDTO;
 import backend.padua.data.dto.ProductDTO;
 import backend.padua.services.ProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
+@Validated
 @RequestMapping(value = "/api/products")
 public class ProductController {
 
     private ProductService service;
 
-    public ProductController(ProductService service) {
+    private CatalogResponseEncoder catalog;
+
+    public ProductController(ProductService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.catalog = new CatalogResponseEncoder("products", objectMapper);
     }
 
     @PostMapping(
@@ -32,6 +42,18 @@ public class ProductController {
         return service.create(product);
     }
 
+    @PostMapping(value = "/bulk",
+            consumes = {
+                    MediaType.APPLICATION_JSON_VALUE
+            },
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    @ResponseStatus(HttpStatus.CREATED)
+    public BulkResultDTO createAll(@RequestBody List<@Valid ProductDTO> products){
+        return service.createAll(products);
+    }
+
     @PutMapping(
             consumes = {
                     MediaType.APPLICATION_JSON_VALUE
@@ -47,8 +69,27 @@ public class ProductController {
             produces = {
                     MediaType.APPLICATION_JSON_VALUE
             })
-    public List<ProductDTO> findAll(){
-        return service.findAll();
+    public ResponseEntity<byte[]> findAll(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding){
+        return catalog.respond(service.findAllSnapshot(), ifNoneMatch, acceptEncoding);
+    }
+
+    @GetMapping(params = "limit",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public CursorPageDTO<ProductDTO> findPage(@RequestParam(value = "after", required = false) Long after,
+                                        @RequestParam(value = "limit") Integer limit){
+        return service.findPage(after, limit);
+    }
+
+    @GetMapping(params = {"after", "!limit"},
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public CursorPageDTO<ProductDTO> findPageAfter(@RequestParam(value = "after") Long after){
+        return service.findPage(after, null);
     }
 
     @GetMapping(value ="/{id}",
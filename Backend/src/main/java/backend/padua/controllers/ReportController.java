@@ -0,0 +1,50 @@
+package backend.padua.controllers;
+
+import backend.padua.data.dto.SalesReportDTO;
+import backend.padua.model.SalesDimension;
+import backend.padua.model.SalesGranularity;
+import backend.padua.services.ReportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/api/reports")
+public class ReportController {
+
+    private ReportService service;
+
+    public ReportController(ReportService service) {
+        this.service = service;
+    }
+
+    @GetMapping(value = "/sales",
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE
+            })
+    public List<SalesReportDTO> sales(
+            @RequestParam(value = "granularity", defaultValue = "DAY") SalesGranularity granularity,
+            @RequestParam(value = "dimension", defaultValue = "PRODUCT") SalesDimension dimension,
+            @RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+        return service.sales(granularity, dimension, from, to);
+    }
+
+    @PostMapping(value = "/sales/reconcile")
+    public ResponseEntity<?> reconcile(
+            @RequestParam(value = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to){
+
+        service.reconcile(from, to);
+
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,18 @@
+package backend.padua.data.dto;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkResultDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private int created;
+
+    private long elapsedMillis;
+}
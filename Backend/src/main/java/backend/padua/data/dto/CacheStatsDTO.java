@@ -0,0 +1,30 @@
+package backend.padua.data.dto;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String name;
+
+    private long version;
+
+    private int size;
+
+    private long hits;
+
+    private long misses;
+
+    private long rebuilds;
+
+    private long lastRebuildMicros;
+
+    private long totalRebuildMicros;
+}
@@ -0,0 +1,23 @@
+package backend.padua.data.dto;
+
+import lombok.*;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientUpdateStatusDTO extends RepresentationModel<ClientUpdateStatusDTO> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Long seq;
+
+    private String status;
+
+    private String reason;
+}
@@ -0,0 +1,21 @@
+package backend.padua.data.dto;
+
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private List<T> items;
+
+    private Long nextCursor;
+
+    private int limit;
+}
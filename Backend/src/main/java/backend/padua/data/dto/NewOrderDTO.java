@@ -0,0 +1,28 @@
+package backend.padua.data.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewOrderDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @NotNull(message = "Preenchimento obrigatório")
+    private Long clientId;
+
+    @NotNull(message = "Preenchimento obrigatório")
+    private Long addressId;
+
+    @Valid
+    @NotEmpty(message = "Preenchimento obrigatório")
+    private List<OrderItemDTO> itens;
+}
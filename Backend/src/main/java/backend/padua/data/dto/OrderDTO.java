@@ -28,4 +28,8 @@ public class OrderDTO extends RepresentationModel<OrderDTO> implements Serializa
 
     @NotEmpty(message = "Preenchimento obrigatório")
     private List<String> itens;
+
+    private String status;
+
+    private Double total;
 }
@@ -0,0 +1,29 @@
+package backend.padua.data.dto;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderItemDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @NotNull(message = "Preenchimento obrigatório")
+    private Long productId;
+
+    @NotNull(message = "Preenchimento obrigatório")
+    @Min(value = 1, message = "A quantidade deve ser maior que zero")
+    private Integer quantity;
+
+    @DecimalMin(value = "0.0", message = "O desconto não pode ser negativo")
+    @DecimalMax(value = "100000.0", message = "O desconto deve ser no máximo 100000")
+    private Double discount;
+}
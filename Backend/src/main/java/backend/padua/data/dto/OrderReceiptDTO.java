@@ -0,0 +1,19 @@
+package backend.padua.data.dto;
+
+import lombok.*;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderReceiptDTO extends RepresentationModel<OrderReceiptDTO> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long receipt;
+
+    private String status;
+}
@@ -0,0 +1,24 @@
+package backend.padua.data.dto;
+
+import backend.padua.model.OrderStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.springframework.hateoas.RepresentationModel;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusDTO extends RepresentationModel<OrderStatusDTO> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    @NotNull(message = "Preenchimento obrigatório")
+    private OrderStatus status;
+
+    private Long version;
+}
@@ -0,0 +1,24 @@
+package backend.padua.data.dto;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegionStatsDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String region;
+
+    private long hits;
+
+    private long misses;
+
+    private long puts;
+
+    private long size;
+}
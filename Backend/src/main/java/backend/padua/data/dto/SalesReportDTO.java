@@ -0,0 +1,26 @@
+package backend.padua.data.dto;
+
+import lombok.*;
+
+import java.io.Serializable;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesReportDTO implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String bucket;
+
+    private Long id;
+
+    private String name;
+
+    private long quantity;
+
+    private Double revenue;
+
+    private long orders;
+}
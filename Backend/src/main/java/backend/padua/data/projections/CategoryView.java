@@ -0,0 +1,4 @@
+package backend.padua.data.projections;
+
+public record CategoryView(Long id, String name) {
+}
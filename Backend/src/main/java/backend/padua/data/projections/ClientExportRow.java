@@ -0,0 +1,4 @@
+package backend.padua.data.projections;
+
+public record ClientExportRow(Long id, String name, String email, String cpf) {
+}
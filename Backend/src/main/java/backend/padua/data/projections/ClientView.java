@@ -0,0 +1,4 @@
+package backend.padua.data.projections;
+
+public record ClientView(Long id, String name, String email) {
+}
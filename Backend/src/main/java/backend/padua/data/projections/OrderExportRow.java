@@ -0,0 +1,8 @@
+package backend.padua.data.projections;
+
+import backend.padua.model.OrderStatus;
+
+import java.util.Date;
+
+public record OrderExportRow(Long id, Date date, String clientName, OrderStatus status, long totalCents) {
+}
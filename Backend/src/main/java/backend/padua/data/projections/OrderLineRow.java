@@ -0,0 +1,7 @@
+package backend.padua.data.projections;
+
+import java.util.Date;
+
+public record OrderLineRow(Long orderId, Date date, Long productId, String productName, Long categoryId,
+                           String categoryName, int quantity, long revenueCents) {
+}
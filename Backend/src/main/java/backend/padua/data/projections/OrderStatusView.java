@@ -0,0 +1,6 @@
+package backend.padua.data.projections;
+
+import backend.padua.model.OrderStatus;
+
+public record OrderStatusView(Long id, OrderStatus status, Long version) {
+}
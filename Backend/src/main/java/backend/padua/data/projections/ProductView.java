@@ -0,0 +1,4 @@
+package backend.padua.data.projections;
+
+public record ProductView(Long id, String name, Long price, String category) {
+}
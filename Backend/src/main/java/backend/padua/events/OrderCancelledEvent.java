@@ -0,0 +1,7 @@
+package backend.padua.events;
+
+import java.util.Date;
+import java.util.List;
+
+public record OrderCancelledEvent(Long orderId, Date placedAt, List<OrderLine> lines) {
+}
@@ -0,0 +1,160 @@
+package backend.padua.events;
+
+import backend.padua.data.dto.OrderDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class OrderEventBus {
+
+    static final String EVENT_NAME = "order";
+
+    private final int bufferSize;
+
+    private final long timeoutMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final Executor senders;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final LongAdder published = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    public OrderEventBus(@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor senders,
+                         @Value("${appburguer.orders.stream-buffer:64}") int bufferSize,
+                         @Value("${appburguer.orders.stream-timeout-ms:1800000}") long timeoutMillis) {
+        this.senders = senders;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutMillis));
+    }
+
+    public SseEmitter subscribe(SseEmitter emitter) {
+
+        Subscriber subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(ex -> subscribers.remove(subscriber));
+
+        subscribers.add(subscriber);
+
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        publish(event.order());
+    }
+
+    public void publish(OrderDTO order) {
+
+        published.increment();
+
+        for (Subscriber subscriber : subscribers) {
+
+            if(!subscriber.buffer.offer(order)) {
+                dropped.increment();
+                subscribers.remove(subscriber);
+                subscriber.emitter.complete();
+                continue;
+            }
+
+            schedule(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+
+        closed.set(true);
+
+        for (Subscriber subscriber : subscribers) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.complete();
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public long publishedCount() {
+        return published.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if(closed.get()) return;
+
+        if(subscriber.draining.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException ex) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+
+        try {
+            OrderDTO next;
+
+            while ((next = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(next.getId()))
+                        .name(EVENT_NAME)
+                        .data(next, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException ex) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(ex);
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if(!subscriber.buffer.isEmpty() && subscribers.contains(subscriber)) {
+            schedule(subscriber);
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<OrderDTO> buffer;
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<OrderDTO> buffer) {
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package backend.padua.events;
+
+import backend.padua.data.projections.OrderLineRow;
+
+public record OrderLine(Long productId, String productName, Long categoryId, String categoryName,
+                        int quantity, long revenueCents) {
+
+    public static OrderLine of(OrderLineRow row) {
+        return new OrderLine(row.productId(), row.productName(), row.categoryId(), row.categoryName(),
+                row.quantity(), row.revenueCents());
+    }
+}
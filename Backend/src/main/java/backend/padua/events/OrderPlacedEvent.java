@@ -0,0 +1,13 @@
+package backend.padua.events;
+
+import backend.padua.data.dto.OrderDTO;
+
+import java.util.Date;
+import java.util.List;
+
+public record OrderPlacedEvent(OrderDTO order, Date placedAt, List<OrderLine> lines) {
+
+    public OrderPlacedEvent(OrderDTO order) {
+        this(order, null, List.of());
+    }
+}
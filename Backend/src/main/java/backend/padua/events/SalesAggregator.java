@@ -0,0 +1,273 @@
+package backend.padua.events;
+
+import backend.padua.data.projections.OrderLineRow;
+import backend.padua.model.SalesAggregate;
+import backend.padua.model.SalesDimension;
+import backend.padua.model.SalesGranularity;
+import backend.padua.repositories.OrderRepository;
+import backend.padua.repositories.SalesAggregateRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.*;
+
+@Component
+public class SalesAggregator {
+
+    static final int MAX_BATCH = 1000;
+
+    static final long MIN_BACKOFF_MILLIS = 100;
+
+    static final long MAX_BACKOFF_MILLIS = 30_000;
+
+    private static final Logger log = LoggerFactory.getLogger(SalesAggregator.class);
+
+    private final SalesAggregateRepository repository;
+
+    private final OrderRepository orders;
+
+    private final TransactionOperations transactions;
+
+    private final int reconcileDays;
+
+    private final LinkedBlockingQueue<Change> pending = new LinkedBlockingQueue<>();
+
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sales-aggregator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private List<Change> failed = List.of();
+
+    private long backoffMillis = MIN_BACKOFF_MILLIS;
+
+    private long retryAt;
+
+    public SalesAggregator(SalesAggregateRepository repository, OrderRepository orders, TransactionOperations transactions,
+                           @Value("${appburguer.reports.reconcile-days:2}") int reconcileDays) {
+        this.repository = repository;
+        this.orders = orders;
+        this.transactions = transactions;
+        this.reconcileDays = reconcileDays;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderPlaced(OrderPlacedEvent event) {
+        enqueue(new Change(event.placedAt(), event.lines(), 1));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderCancelled(OrderCancelledEvent event) {
+        enqueue(new Change(event.placedAt(), event.lines(), -1));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+
+        LocalDate today = LocalDate.now();
+
+        writer.execute(() -> {
+            try {
+                rebuild(today.minusDays(reconcileDays), today);
+            } catch (RuntimeException ex) {
+                log.warn("Could not reconcile the sales aggregates at startup", ex);
+            }
+        });
+    }
+
+    public int reconcile(LocalDate from, LocalDate to) {
+
+        Future<Integer> result = writer.submit(() -> rebuild(from, to));
+
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reconciling the sales aggregates", ex);
+        } catch (ExecutionException ex) {
+            if(ex.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("Could not reconcile the sales aggregates", ex.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        writer.shutdown();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void enqueue(Change change) {
+
+        if(change.lines() == null || change.lines().isEmpty()) return;
+
+        pending.add(change);
+
+        try {
+            writer.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            log.warn("Sales aggregator is shut down, the change will be picked up by the next reconcile");
+        }
+    }
+
+    private void drain() {
+
+        if(!failed.isEmpty() && System.nanoTime() - retryAt < 0) return;
+
+        List<Change> batch = new ArrayList<>(failed);
+
+        pending.drainTo(batch, MAX_BATCH);
+
+        if(batch.isEmpty()) return;
+
+        try {
+            write(batch);
+            failed = List.of();
+            backoffMillis = MIN_BACKOFF_MILLIS;
+        } catch (RuntimeException ex) {
+            log.warn("Could not apply {} sales changes, retrying in {} ms", batch.size(), backoffMillis, ex);
+            failed = batch;
+            retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+            writer.schedule(this::drain, backoffMillis, TimeUnit.MILLISECONDS);
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    private int rebuild(LocalDate from, LocalDate to) {
+
+        retryAt = System.nanoTime();
+        drain();
+
+        if(!failed.isEmpty()) {
+            throw new IllegalStateException("Pending sales changes could not be applied");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        Integer written = transactions.execute(status -> {
+            List<OrderLineRow> rows = orders.findLinesBetween(toDate(start), toDate(end));
+
+            Map<Key, Delta> deltas = deltas(changes(rows));
+
+            repository.deleteBuckets(start, end);
+            deltas.forEach(this::write);
+
+            return deltas.size();
+        });
+
+        return written == null ? 0 : written;
+    }
+
+    private void write(List<Change> changes) {
+
+        Map<Key, Delta> deltas = deltas(changes);
+
+        transactions.executeWithoutResult(status -> deltas.forEach(this::write));
+    }
+
+    private Map<Key, Delta> deltas(List<Change> changes) {
+
+        Map<Key, Delta> deltas = new LinkedHashMap<>();
+
+        for (Change change : changes) {
+            LocalDateTime placedAt = LocalDateTime.ofInstant(change.placedAt().toInstant(), ZoneId.systemDefault());
+
+            for (SalesGranularity granularity : SalesGranularity.values()) {
+                LocalDateTime bucket = granularity.bucket(placedAt);
+                Set<Key> counted = new HashSet<>();
+
+                for (OrderLine line : change.lines()) {
+                    add(deltas, counted, new Key(granularity, SalesDimension.PRODUCT, bucket, line.productId()),
+                            line.productName(), line, change.sign());
+                    add(deltas, counted, new Key(granularity, SalesDimension.CATEGORY, bucket, line.categoryId()),
+                            line.categoryName(), line, change.sign());
+                }
+            }
+        }
+
+        return deltas;
+    }
+
+    private static List<Change> changes(List<OrderLineRow> rows) {
+
+        List<Change> changes = new ArrayList<>();
+
+        Long orderId = null;
+        List<OrderLine> lines = null;
+
+        for (OrderLineRow row : rows) {
+            if(!row.orderId().equals(orderId)) {
+                orderId = row.orderId();
+                lines = new ArrayList<>();
+                changes.add(new Change(row.date(), lines, 1));
+            }
+
+            lines.add(OrderLine.of(row));
+        }
+
+        return changes;
+    }
+
+    private void add(Map<Key, Delta> deltas, Set<Key> counted, Key key, String name, OrderLine line, int sign) {
+
+        Delta delta = deltas.computeIfAbsent(key, k -> new Delta());
+
+        delta.name = name;
+        delta.quantity += sign * (long) line.quantity();
+        delta.revenueCents += sign * line.revenueCents();
+
+        if(counted.add(key)) delta.orders += sign;
+    }
+
+    private void write(Key key, Delta delta) {
+
+        int updated = repository.increment(key.granularity(), key.dimension(), key.bucket(), key.dimensionId(),
+                delta.name, delta.quantity, delta.revenueCents, delta.orders);
+
+        if(updated == 0 && delta.orders > 0) {
+            repository.save(SalesAggregate.builder()
+                    .granularity(key.granularity())
+                    .dimension(key.dimension())
+                    .bucket(key.bucket())
+                    .dimensionId(key.dimensionId())
+                    .dimensionName(delta.name)
+                    .quantity(delta.quantity)
+                    .revenueCents(delta.revenueCents)
+                    .orders(delta.orders)
+                    .build());
+        }
+    }
+
+    private static Date toDate(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private record Change(Date placedAt, List<OrderLine> lines, int sign) {
+    }
+
+    private record Key(SalesGranularity granularity, SalesDimension dimension, LocalDateTime bucket, Long dimensionId) {
+    }
+
+    private static final class Delta {
+
+        private String name;
+
+        private long quantity;
+
+        private long revenueCents;
+
+        private long orders;
+    }
+}
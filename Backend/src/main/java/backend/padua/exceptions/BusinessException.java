@@ -8,6 +8,6 @@ public class BusinessException extends RuntimeException{
     private static final long serialVersionUID = 1L;
 
     public BusinessException(String ex) {
-        super(ex);
+        super(ex, null, false, false);
     }
 }
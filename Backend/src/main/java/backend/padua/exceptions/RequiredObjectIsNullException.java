@@ -8,11 +8,11 @@ public class RequiredObjectIsNullException extends RuntimeException {
     private static final long serialVersionUID = 1L;
 
     public RequiredObjectIsNullException() {
-        super("It is not allowed to persist a null object!");
+        this("It is not allowed to persist a null object!");
     }
 
     public RequiredObjectIsNullException(String ex){
-        super(ex);
+        super(ex, null, false, false);
     }
 
 }
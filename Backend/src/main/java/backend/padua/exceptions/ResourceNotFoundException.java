@@ -8,6 +8,6 @@ public class ResourceNotFoundException extends RuntimeException{
     private static final long serialVersionUID = 1L;
 
     public ResourceNotFoundException(String ex) {
-        super(ex);
+        super(ex, null, false, false);
     }
 }
@@ -1,6 +1,8 @@
 package backend.padua.exceptions.handler;
 
 import backend.padua.exceptions.ExceptionResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -31,4 +33,18 @@ public class ArgumentNotValidException {
                 .build();
         return new ResponseEntity<>(exceptionResponse, HttpStatus.BAD_REQUEST);
     }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public final ResponseEntity<ExceptionResponse> handleConstraintViolationExceptions(
+            ConstraintViolationException ex, WebRequest request) {
+        List<String> validationList = ex.getConstraintViolations().stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.toList());
+
+        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
+                .timestamp(new Date())
+                .message(validationList.isEmpty() ? ex.getMessage() : validationList.get(0))
+                .ErrorList(validationList)
+                .details(request.getDescription(false))
+                .build();
+        return new ResponseEntity<>(exceptionResponse, HttpStatus.BAD_REQUEST);
+    }
 }
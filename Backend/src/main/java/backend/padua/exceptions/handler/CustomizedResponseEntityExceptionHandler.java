@@ -4,55 +4,92 @@ import backend.padua.exceptions.BusinessException;
 import backend.padua.exceptions.ExceptionResponse;
 import backend.padua.exceptions.RequiredObjectIsNullException;
 import backend.padua.exceptions.ResourceNotFoundException;
+import backend.padua.exceptions.ServiceUnavailableException;
+import backend.padua.exceptions.UnprocessableEntityException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @RestControllerAdvice
 @RestController
 public class CustomizedResponseEntityExceptionHandler extends ResponseEntityExceptionHandler{
 
+    static final String ERRORS = "appburguer.errors";
+
+    static final String RETRY_AFTER_SECONDS = "1";
+
+    private final MeterRegistry registry;
+
+    private final Map<ErrorKey, Counter> counters = new ConcurrentHashMap<>();
+
+    public CustomizedResponseEntityExceptionHandler(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry.getIfAvailable(() -> Metrics.globalRegistry);
+    }
+
     @ExceptionHandler(Exception.class)
     public final ResponseEntity<ExceptionResponse> handleAllExceptions(
             Exception ex, WebRequest request) {
-        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
-                .timestamp(new Date())
-                .message(ex.getMessage())
-                .ErrorList(Arrays.asList(ex.getMessage()))
-                .details(request.getDescription(false))
-                .build();
-        return new ResponseEntity<>(exceptionResponse, HttpStatus.INTERNAL_SERVER_ERROR);
+        return respond(ex, HttpStatus.INTERNAL_SERVER_ERROR, request);
     }
 
-    @ExceptionHandler(BusinessException.class)
+    @ExceptionHandler({BusinessException.class, MethodArgumentTypeMismatchException.class})
     public final ResponseEntity<ExceptionResponse> handleBusinessExceptions(
             Exception ex, WebRequest request) {
-        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
-                .timestamp(new Date())
-                .message(ex.getMessage())
-                .ErrorList(Arrays.asList(ex.getMessage()))
-                .details(request.getDescription(false))
-                .build();
-        return new ResponseEntity<>(exceptionResponse, HttpStatus.BAD_REQUEST);
+        return respond(ex, HttpStatus.BAD_REQUEST, request);
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
     public final ResponseEntity<ExceptionResponse> handleResourceNotFoundExceptions(
             Exception ex, WebRequest request) {
-        ExceptionResponse exceptionResponse = ExceptionResponse.builder()
-                .timestamp(new Date())
-                .message(ex.getMessage())
-                .ErrorList(Arrays.asList(ex.getMessage()))
-                .details(request.getDescription(false))
-                .build();
-        return new ResponseEntity<>(exceptionResponse, HttpStatus.NOT_FOUND);
+        return respond(ex, HttpStatus.NOT_FOUND, request);
+    }
+
+    @ExceptionHandler(UnprocessableEntityException.class)
+    public final ResponseEntity<ExceptionResponse> handleUnprocessableEntityExceptions(
+            Exception ex, WebRequest request) {
+        return respond(ex, HttpStatus.UNPROCESSABLE_ENTITY, request);
     }
 
-}
\ No newline at end of file
+    @ExceptionHandler({ServiceUnavailableException.class, CannotCreateTransactionException.class,
+            CannotGetJdbcConnectionException.class})
+    public final ResponseEntity<ExceptionResponse> handleServiceUnavailableExceptions(
+            Exception ex, WebRequest request) {
+        ResponseEntity<ExceptionResponse> response = respond(ex, HttpStatus.SERVICE_UNAVAILABLE, request);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(response.getBody());
+    }
+
+    private ResponseEntity<ExceptionResponse> respond(Exception ex, HttpStatus status, WebRequest request) {
+        ExceptionResponse exceptionResponse = new ExceptionResponse(new Date(), ex.getMessage(),
+                Collections.singletonList(ex.getMessage()), request.getDescription(false));
+        countError(ex, status);
+        return new ResponseEntity<>(exceptionResponse, status);
+    }
+
+    private void countError(Exception ex, HttpStatus status) {
+        counters.computeIfAbsent(new ErrorKey(ex.getClass(), status), key -> registry.counter(ERRORS,
+                "exception", key.type().getSimpleName(),
+                "status", String.valueOf(key.status().value()))).increment();
+    }
+
+    private record ErrorKey(Class<?> type, HttpStatus status) {
+    }
+}
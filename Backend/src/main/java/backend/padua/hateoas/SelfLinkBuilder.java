@@ -0,0 +1,55 @@
+package backend.padua.hateoas;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+public final class SelfLinkBuilder {
+
+    private final String prefix;
+
+    private SelfLinkBuilder(String base) {
+        this.prefix = base.endsWith("/") ? base : base + "/";
+    }
+
+    public static SelfLinkBuilder of(Class<?> controller) {
+        return new SelfLinkBuilder(linkTo(controller).toUri().toString());
+    }
+
+    public static SelfLinkBuilder relative(Class<?> controller) {
+
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+
+        if(mapping == null || mapping.path().length == 0) {
+            throw new IllegalArgumentException(controller.getSimpleName() + " has no request mapping");
+        }
+
+        return new SelfLinkBuilder(mapping.path()[0]);
+    }
+
+    public Link forId(Long id) {
+        return Link.of(prefix + id, IanaLinkRelations.SELF);
+    }
+
+    public Link forPath(String path, Long id) {
+        return Link.of(prefix + path + "/" + id, IanaLinkRelations.SELF);
+    }
+
+    public Link forChild(Long id, String child) {
+        return Link.of(prefix + id + "/" + child, child);
+    }
+
+    public <T extends RepresentationModel<?>> T stamp(T model, Long id) {
+        model.add(forId(id));
+        return model;
+    }
+
+    public <T extends RepresentationModel<?>> T stamp(T model, String path, Long id) {
+        model.add(forPath(path, id));
+        return model;
+    }
+}
@@ -0,0 +1,8 @@
+package backend.padua.journal;
+
+public record ClientUpdate(long seq, Long id, String name, String email) {
+
+    ClientUpdate newest(ClientUpdate other) {
+        return other == null || seq >= other.seq ? this : other;
+    }
+}
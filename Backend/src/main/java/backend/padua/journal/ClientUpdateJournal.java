@@ -0,0 +1,123 @@
+package backend.padua.journal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+final class ClientUpdateJournal implements Closeable {
+
+    static final String PREFIX = "clients-";
+
+    static final String SUFFIX = ".journal";
+
+    private final Path directory;
+
+    private final ObjectMapper mapper;
+
+    private long segment;
+
+    private Path current;
+
+    private FileChannel channel;
+
+    ClientUpdateJournal(Path directory, ObjectMapper mapper, long segment) throws IOException {
+        this.directory = directory;
+        this.mapper = mapper;
+        this.segment = segment;
+        open();
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+
+        Files.createDirectories(directory);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    static long number(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    static List<ClientUpdate> read(Path segment, ObjectMapper mapper) throws IOException {
+
+        List<ClientUpdate> updates = new ArrayList<>();
+
+        for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+            if(line.isBlank()) continue;
+
+            try {
+                updates.add(mapper.readValue(line, ClientUpdate.class));
+            } catch (JsonProcessingException ex) {
+                break;
+            }
+        }
+
+        return updates;
+    }
+
+    void append(ClientUpdate update) throws IOException {
+
+        byte[] json = mapper.writeValueAsBytes(update);
+        ByteBuffer record = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+
+        long position = channel.position();
+
+        try {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        } catch (IOException ex) {
+            channel.truncate(position);
+            channel.position(position);
+            throw ex;
+        }
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    Path rotate() throws IOException {
+
+        Path sealed = current;
+
+        channel.force(true);
+        channel.close();
+
+        segment++;
+        open();
+
+        return sealed;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.force(true);
+        channel.close();
+    }
+
+    private void open() throws IOException {
+        current = directory.resolve(PREFIX + String.format("%019d", segment) + SUFFIX);
+        channel = FileChannel.open(current, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,7 @@
+package backend.padua.journal;
+
+public enum ClientUpdateState {
+    PENDING,
+    APPLIED,
+    REJECTED
+}
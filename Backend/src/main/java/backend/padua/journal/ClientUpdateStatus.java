@@ -0,0 +1,16 @@
+package backend.padua.journal;
+
+public record ClientUpdateStatus(long seq, Long id, ClientUpdateState state, String reason) {
+
+    static ClientUpdateStatus pending(ClientUpdate update) {
+        return new ClientUpdateStatus(update.seq(), update.id(), ClientUpdateState.PENDING, null);
+    }
+
+    static ClientUpdateStatus applied(ClientUpdate update) {
+        return new ClientUpdateStatus(update.seq(), update.id(), ClientUpdateState.APPLIED, null);
+    }
+
+    static ClientUpdateStatus rejected(ClientUpdate update, String reason) {
+        return new ClientUpdateStatus(update.seq(), update.id(), ClientUpdateState.REJECTED, reason);
+    }
+}
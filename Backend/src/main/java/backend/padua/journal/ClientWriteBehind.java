@@ -0,0 +1,331 @@
+package backend.padua.journal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "appburguer.clients.write-behind", havingValue = "true")
+public class ClientWriteBehind {
+
+    static final String UPDATE_SQL = "update client set name = ?, email = ? where id = ?";
+
+    static final String EMAIL_TAKEN = "Email já cadastrado.";
+
+    static final String CLIENT_NOT_FOUND = "Cliente não encontrado.";
+
+    static final int DEFAULT_STATUS_ENTRIES = 10_000;
+
+    private final JdbcTemplate jdbc;
+
+    private final ClientUpdateJournal journal;
+
+    private final int statusEntries;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private final ReentrantLock flushing = new ReentrantLock();
+
+    private final Map<Long, ClientUpdate> pending = new HashMap<>();
+
+    private final Map<Long, ClientUpdateStatus> outcomes;
+
+    private final List<Path> sealed = new ArrayList<>();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "client-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicLong applied = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private long sequence;
+
+    private volatile long durable;
+
+    public ClientWriteBehind(JdbcTemplate jdbc, ObjectMapper mapper, String directory, long flushMillis) throws IOException {
+        this(jdbc, mapper, directory, flushMillis, DEFAULT_STATUS_ENTRIES);
+    }
+
+    @Autowired
+    public ClientWriteBehind(JdbcTemplate jdbc, ObjectMapper mapper,
+                             @Value("${appburguer.clients.journal-dir:journal/clients}") String directory,
+                             @Value("${appburguer.clients.flush-ms:200}") long flushMillis,
+                             @Value("${appburguer.clients.status-entries:10000}") int statusEntries) throws IOException {
+        this.jdbc = jdbc;
+        this.statusEntries = statusEntries;
+        this.outcomes = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ClientUpdateStatus> eldest) {
+                return size() > ClientWriteBehind.this.statusEntries;
+            }
+        };
+
+        Path dir = Path.of(directory);
+        long segment = 0;
+
+        for (Path existing : ClientUpdateJournal.segments(dir)) {
+            for (ClientUpdate update : ClientUpdateJournal.read(existing, mapper)) {
+                pending.merge(update.id(), update, ClientUpdate::newest);
+                sequence = Math.max(sequence, update.seq());
+            }
+            sealed.add(existing);
+            segment = ClientUpdateJournal.number(existing) + 1;
+        }
+
+        this.journal = new ClientUpdateJournal(dir, mapper, segment);
+        this.durable = sequence;
+
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public ClientUpdate submit(Long id, String name, String email) {
+
+        ClientUpdate update;
+
+        lock.lock();
+        try {
+            update = new ClientUpdate(sequence + 1, id, name, email);
+
+            journal.append(update);
+
+            sequence = update.seq();
+            pending.put(id, update);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.unlock();
+        }
+
+        sync(update.seq());
+
+        return update;
+    }
+
+    public Optional<ClientUpdate> pending(Long id) {
+
+        lock.lock();
+        try {
+            return Optional.ofNullable(pending.get(id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<Long, ClientUpdate> pendingUpdates() {
+
+        lock.lock();
+        try {
+            return new HashMap<>(pending);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean emailPending(String email, Long exceptId) {
+
+        lock.lock();
+        try {
+            for (ClientUpdate update : pending.values()) {
+                if(!update.id().equals(exceptId) && email != null && email.equalsIgnoreCase(update.email())) return true;
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Optional<ClientUpdateStatus> status(Long id) {
+
+        lock.lock();
+        try {
+            ClientUpdate update = pending.get(id);
+
+            if(update != null) return Optional.of(ClientUpdateStatus.pending(update));
+
+            return Optional.ofNullable(outcomes.get(id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int flush() {
+
+        flushing.lock();
+        try {
+            Map<Long, ClientUpdate> batch;
+
+            syncLock.lock();
+            try {
+                lock.lock();
+                try {
+                    if(pending.isEmpty() && sealed.isEmpty()) return 0;
+
+                    sealed.add(journal.rotate());
+                    durable = sequence;
+
+                    batch = new HashMap<>(pending);
+                } finally {
+                    lock.unlock();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            } finally {
+                syncLock.unlock();
+            }
+
+            List<ClientUpdateStatus> results = apply(new ArrayList<>(batch.values()));
+
+            lock.lock();
+            try {
+                for (ClientUpdateStatus result : results) {
+                    pending.remove(result.id(), batch.get(result.id()));
+                    outcomes.put(result.id(), result);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            deleteSealed();
+
+            return batch.size();
+        } finally {
+            flushing.unlock();
+        }
+    }
+
+    public long appliedCount() {
+        return applied.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    @PreDestroy
+    public void close() throws IOException, InterruptedException {
+
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+
+        flushQuietly();
+
+        journal.close();
+    }
+
+    private void sync(long seq) {
+
+        if(durable >= seq) return;
+
+        syncLock.lock();
+        try {
+            if(durable >= seq) return;
+
+            long target;
+
+            lock.lock();
+            try {
+                target = sequence;
+            } finally {
+                lock.unlock();
+            }
+
+            journal.force();
+            durable = target;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (DataAccessException | UncheckedIOException ignored) {
+        }
+    }
+
+    private List<ClientUpdateStatus> apply(List<ClientUpdate> updates) {
+
+        List<ClientUpdateStatus> results = new ArrayList<>(updates.size());
+
+        if(updates.isEmpty()) return results;
+
+        try {
+            int[][] counts = jdbc.batchUpdate(UPDATE_SQL, updates, updates.size(), (ps, update) -> {
+                ps.setString(1, update.name());
+                ps.setString(2, update.email());
+                ps.setLong(3, update.id());
+            });
+
+            int next = 0;
+
+            for (int[] chunk : counts) {
+                for (int count : chunk) {
+                    results.add(outcome(updates.get(next++), count));
+                }
+            }
+        } catch (DataIntegrityViolationException ex) {
+            results.clear();
+
+            for (ClientUpdate update : updates) {
+                try {
+                    results.add(outcome(update, jdbc.update(UPDATE_SQL, update.name(), update.email(), update.id())));
+                } catch (DataIntegrityViolationException violation) {
+                    rejected.incrementAndGet();
+                    results.add(ClientUpdateStatus.rejected(update, EMAIL_TAKEN));
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private ClientUpdateStatus outcome(ClientUpdate update, int count) {
+
+        if(count == 0) {
+            rejected.incrementAndGet();
+            return ClientUpdateStatus.rejected(update, CLIENT_NOT_FOUND);
+        }
+
+        applied.incrementAndGet();
+        return ClientUpdateStatus.applied(update);
+    }
+
+    private void deleteSealed() {
+
+        Iterator<Path> segments = sealed.iterator();
+
+        while (segments.hasNext()) {
+            try {
+                Files.deleteIfExists(segments.next());
+                segments.remove();
+            } catch (IOException ex) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,428 @@
+package backend.padua.journal;
+
+import backend.padua.data.dto.NewOrderDTO;
+import backend.padua.exceptions.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+public class OrderJournal implements Closeable {
+
+    static final String PREFIX = "orders-";
+
+    static final String SUFFIX = ".journal";
+
+    static final int HEADER = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+
+    private final int segmentBytes;
+
+    private final ObjectMapper mapper;
+
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    private final ReentrantLock progressLock = new ReentrantLock();
+
+    private final Condition progress = progressLock.newCondition();
+
+    private Segment active;
+
+    private long written;
+
+    private volatile long durable;
+
+    public OrderJournal(Path directory, int segmentBytes, ObjectMapper mapper) throws IOException {
+        this(directory, segmentBytes, mapper, 0L);
+    }
+
+    public OrderJournal(Path directory, int segmentBytes, ObjectMapper mapper, long floorSeq) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.mapper = mapper;
+
+        Files.createDirectories(directory);
+
+        written = floorSeq;
+
+        for (Path path : existing()) {
+            Segment segment = Segment.recover(path);
+
+            if(segment.lastSeq < segment.firstSeq) {
+                written = Math.max(written, segment.firstSeq - 1);
+                segment.delete();
+                continue;
+            }
+
+            segments.add(segment);
+            written = Math.max(written, segment.lastSeq);
+        }
+
+        durable = written;
+        active = Segment.create(directory.resolve(name(written + 1)), written + 1, segmentBytes);
+        segments.add(active);
+    }
+
+    public long append(NewOrderDTO order) {
+
+        byte[] payload;
+
+        try {
+            payload = mapper.writeValueAsBytes(new Payload(System.currentTimeMillis(), order));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        if(HEADER + payload.length > segmentBytes) {
+            throw new BusinessException("Pedido excede o tamanho máximo do journal.");
+        }
+
+        long seq;
+
+        appendLock.lock();
+        try {
+            seq = written + 1;
+
+            if(!active.fits(payload.length)) rotate(seq);
+
+            active.write(seq, payload);
+            written = seq;
+        } finally {
+            appendLock.unlock();
+        }
+
+        sync(seq);
+
+        return seq;
+    }
+
+    public Cursor cursor(long afterSeq) {
+        return new Cursor(afterSeq);
+    }
+
+    public long durableSeq() {
+        return durable;
+    }
+
+    public boolean awaitDurable(long afterSeq, long timeout, TimeUnit unit) throws InterruptedException {
+
+        long nanos = unit.toNanos(timeout);
+
+        progressLock.lock();
+        try {
+            while (durable <= afterSeq) {
+                if(nanos <= 0) return false;
+                nanos = progress.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    public void release(long appliedSeq) {
+
+        while (segments.size() > 1) {
+            Segment first = segments.get(0);
+            Segment next = segments.get(1);
+
+            if(first == active || next.firstSeq - 1 > appliedSeq) return;
+
+            segments.remove(0);
+            first.delete();
+        }
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            for (Segment segment : segments) {
+                segment.close();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void sync(long seq) {
+
+        if(durable >= seq) return;
+
+        syncLock.lock();
+        try {
+            if(durable >= seq) return;
+
+            Segment segment;
+            long target;
+            int position;
+
+            appendLock.lock();
+            try {
+                segment = active;
+                target = written;
+                position = active.position;
+            } finally {
+                appendLock.unlock();
+            }
+
+            segment.force(position);
+            durable = target;
+        } finally {
+            syncLock.unlock();
+        }
+
+        progressLock.lock();
+        try {
+            progress.signalAll();
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    private void rotate(long firstSeq) {
+        try {
+            active.seal();
+            active = Segment.create(directory.resolve(name(firstSeq)), firstSeq, segmentBytes);
+            segments.add(active);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private List<Path> existing() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String name(long firstSeq) {
+        return PREFIX + String.format("%019d", firstSeq) + SUFFIX;
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    public record Entry(long seq, Date acceptedAt, NewOrderDTO order) {
+    }
+
+    record Payload(long acceptedAt, NewOrderDTO order) {
+    }
+
+    public final class Cursor {
+
+        private long lastSeq;
+
+        private Segment segment;
+
+        private int position;
+
+        private Cursor(long afterSeq) {
+            this.lastSeq = afterSeq;
+        }
+
+        public long lastSeq() {
+            return lastSeq;
+        }
+
+        public Entry next() {
+
+            long seq = lastSeq + 1;
+
+            if(seq > durable) return null;
+
+            if(segment == null) seek(seq);
+
+            while (true) {
+                if(segment == null) return null;
+
+                int length = segment.lengthAt(position);
+
+                if(length <= 0) {
+                    advance();
+                    continue;
+                }
+
+                long recordSeq = segment.buffer.getLong(position + Integer.BYTES);
+                byte[] payload = new byte[length];
+                segment.buffer.get(position + HEADER, payload);
+
+                position += HEADER + length;
+
+                if(recordSeq < seq) continue;
+
+                lastSeq = recordSeq;
+
+                try {
+                    Payload decoded = mapper.readValue(payload, Payload.class);
+                    return new Entry(recordSeq, new Date(decoded.acceptedAt()), decoded.order());
+                } catch (IOException ex) {
+                    return new Entry(recordSeq, null, null);
+                }
+            }
+        }
+
+        private void seek(long seq) {
+            int index = 0;
+
+            for (int i = 0; i < segments.size(); i++) {
+                if(segments.get(i).firstSeq <= seq) index = i;
+            }
+
+            segment = segments.isEmpty() ? null : segments.get(index);
+            position = 0;
+        }
+
+        private void advance() {
+            int index = segments.indexOf(segment);
+
+            segment = index < 0 || index + 1 >= segments.size() ? null : segments.get(index + 1);
+            position = 0;
+        }
+    }
+
+    private static final class Segment {
+
+        private final Path path;
+
+        private final long firstSeq;
+
+        private final FileChannel channel;
+
+        private final MappedByteBuffer buffer;
+
+        private volatile int end;
+
+        private int position;
+
+        private int synced;
+
+        private long lastSeq;
+
+        private Segment(Path path, long firstSeq, FileChannel channel, MappedByteBuffer buffer, int end) {
+            this.path = path;
+            this.firstSeq = firstSeq;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.end = end;
+        }
+
+        static Segment create(Path path, long firstSeq, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(path, firstSeq, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size), size);
+            segment.lastSeq = firstSeq - 1;
+            return segment;
+        }
+
+        static Segment recover(Path path) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+
+            String name = path.getFileName().toString();
+            long firstSeq = Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+
+            Segment segment = new Segment(path, firstSeq, channel, buffer, buffer.capacity());
+            segment.lastSeq = firstSeq - 1;
+
+            int position = 0;
+
+            while (position + HEADER <= buffer.capacity()) {
+                int length = buffer.getInt(position);
+
+                if(length <= 0 || position + HEADER + length > buffer.capacity()) break;
+
+                long seq = buffer.getLong(position + Integer.BYTES);
+                byte[] payload = new byte[length];
+                buffer.get(position + HEADER, payload);
+
+                if(seq != segment.lastSeq + 1 || buffer.getInt(position + Integer.BYTES + Long.BYTES) != checksum(payload)) break;
+
+                segment.lastSeq = seq;
+                position += HEADER + length;
+            }
+
+            segment.position = position;
+            segment.synced = position;
+            segment.end = position;
+
+            return segment;
+        }
+
+        boolean fits(int length) {
+            return position + HEADER + length <= buffer.capacity();
+        }
+
+        void write(long seq, byte[] payload) {
+            buffer.putLong(position + Integer.BYTES, seq);
+            buffer.putInt(position + Integer.BYTES + Long.BYTES, checksum(payload));
+            buffer.put(position + HEADER, payload);
+            buffer.putInt(position, payload.length);
+
+            position += HEADER + payload.length;
+            lastSeq = seq;
+        }
+
+        int lengthAt(int offset) {
+            if(offset + HEADER > end || offset + HEADER > buffer.capacity()) return 0;
+            return buffer.getInt(offset);
+        }
+
+        void force(int upTo) {
+            if(upTo <= synced) return;
+            buffer.force(synced, upTo - synced);
+            synced = upTo;
+        }
+
+        void seal() {
+            buffer.force();
+            synced = position;
+            end = position;
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+
+        void delete() {
+            try {
+                channel.close();
+                Files.deleteIfExists(path);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package backend.padua.journal;
+
+import backend.padua.exceptions.BusinessException;
+import backend.padua.exceptions.RequiredObjectIsNullException;
+import backend.padua.exceptions.ResourceNotFoundException;
+import backend.padua.services.OrdersService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@ConditionalOnProperty(name = "appburguer.orders.journal.enabled", havingValue = "true")
+public class OrderJournalApplier {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderJournalApplier.class);
+
+    static final String UNREADABLE = "Registro ilegível no journal.";
+
+    static final String FAILED = "Pedido rejeitado ao ser processado.";
+
+    static final long IDLE_WAIT_MS = 100L;
+
+    static final long MAX_BACKOFF_MS = 1000L;
+
+    private final OrderJournal journal;
+
+    private final OrdersService service;
+
+    private final AtomicLong applied = new AtomicLong();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    private OrderJournal.Cursor cursor;
+
+    public OrderJournalApplier(OrderJournal journal, OrdersService service) {
+        this.journal = journal;
+        this.service = service;
+        this.worker = new Thread(this::run, "order-journal-applier");
+        this.worker.setDaemon(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if(started.compareAndSet(false, true)) worker.start();
+    }
+
+    public int drain() throws InterruptedException {
+
+        if(cursor == null) cursor = journal.cursor(service.lastAppliedReceipt());
+
+        int count = 0;
+
+        try {
+            for (OrderJournal.Entry entry = cursor.next(); entry != null; entry = cursor.next()) {
+                if(!applyWithRetry(entry)) return count;
+
+                journal.release(entry.seq());
+                count++;
+            }
+        } catch (RuntimeException ex) {
+            cursor = null;
+            throw ex;
+        }
+
+        return count;
+    }
+
+    public long appliedCount() {
+        return applied.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+
+        long backoff = IDLE_WAIT_MS;
+
+        try {
+            while (running) {
+                try {
+                    if(drain() == 0) journal.awaitDurable(cursor.lastSeq(), IDLE_WAIT_MS, TimeUnit.MILLISECONDS);
+                    backoff = IDLE_WAIT_MS;
+                } catch (RuntimeException ex) {
+                    log.warn("Order journal applier failed, retrying in {} ms", backoff, ex);
+                    Thread.sleep(backoff);
+                    backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean applyWithRetry(OrderJournal.Entry entry) throws InterruptedException {
+
+        long backoff = 10L;
+
+        while (running) {
+            try {
+                String reason = apply(entry);
+
+                if(reason == null) {
+                    applied.incrementAndGet();
+                } else {
+                    service.reject(entry.seq(), reason);
+                    rejected.incrementAndGet();
+                }
+                return true;
+            } catch (TransientDataAccessException | RecoverableDataAccessException
+                     | DataAccessResourceFailureException | CannotCreateTransactionException ex) {
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+
+        return false;
+    }
+
+    private String apply(OrderJournal.Entry entry) {
+
+        if(entry.order() == null) return UNREADABLE;
+
+        try {
+            service.apply(entry.seq(), entry.acceptedAt(), entry.order());
+            return null;
+        } catch (TransientDataAccessException | RecoverableDataAccessException
+                 | DataAccessResourceFailureException | CannotCreateTransactionException ex) {
+            throw ex;
+        } catch (BusinessException | ResourceNotFoundException | RequiredObjectIsNullException ex) {
+            return ex.getMessage();
+        } catch (RuntimeException ex) {
+            log.warn("Order journal entry {} rejected", entry.seq(), ex);
+            return FAILED;
+        }
+    }
+}
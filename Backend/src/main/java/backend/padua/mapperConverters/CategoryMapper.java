@@ -0,0 +1,118 @@
+package backend.padua.mapperConverters;
+
+import backend.padua.data.dto.CategoryDTO;
+import backend.padua.data.projections.CategoryView;
+import backend.padua.model.Category;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public final class CategoryMapper {
+
+    private CategoryMapper() {
+    }
+
+    public static CategoryDTO toDTO(Category s) {
+        if(s == null) return null;
+
+        CategoryDTO d = new CategoryDTO();
+        d.setId(s.getId());
+        d.setName(s.getName());
+
+        return d;
+    }
+
+    public static Category toEntity(CategoryDTO s) {
+        if(s == null) return null;
+
+        Category d = new Category();
+        d.setId(s.getId());
+        d.setName(s.getName());
+
+        return d;
+    }
+
+    public static List<CategoryDTO> toDTOList(List<Category> source) {
+        List<CategoryDTO> list = new ArrayList<>(source.size());
+
+        for (Category s : source) {
+            list.add(toDTO(s));
+        }
+
+        return list;
+    }
+
+    public static CategoryDTO toDTO(CategoryView s) {
+        if(s == null) return null;
+
+        return new CategoryDTO(s.id(), s.name());
+    }
+
+    public static List<CategoryDTO> fromViews(List<CategoryView> source) {
+        List<CategoryDTO> list = new ArrayList<>(source.size());
+
+        for (CategoryView s : source) {
+            list.add(toDTO(s));
+        }
+
+        return list;
+    }
+
+    public static CategoryDTO readOnly(CategoryDTO s) {
+        if(s == null) return null;
+
+        return new ReadOnlyCategoryDTO(s);
+    }
+
+    private static final class ReadOnlyCategoryDTO extends CategoryDTO {
+        private static final long serialVersionUID = 1L;
+
+        private ReadOnlyCategoryDTO(CategoryDTO s) {
+            super(s.getId(), s.getName());
+            super.add(s.getLinks());
+        }
+
+        @Override
+        public void setId(Long id) {
+            throw ProductMapper.readOnlyItem();
+        }
+
+        @Override
+        public void setName(String name) {
+            throw ProductMapper.readOnlyItem();
+        }
+
+        @Override
+        public CategoryDTO add(Link link) {
+            throw ProductMapper.readOnlyItem();
+        }
+
+        @Override
+        public CategoryDTO add(Link... links) {
+            throw ProductMapper.readOnlyItem();
+        }
+
+        @Override
+        public CategoryDTO add(Iterable<Link> links) {
+            throw ProductMapper.readOnlyItem();
+        }
+
+        @Override
+        public CategoryDTO removeLinks() {
+            throw ProductMapper.readOnlyItem();
+        }
+
+        @Override
+        public CategoryDTO mapLink(LinkRelation relation, Function<Link, Link> mapper) {
+            throw ProductMapper.readOnlyItem();
+        }
+
+        @Override
+        public CategoryDTO mapLink(String relation, Function<Link, Link> mapper) {
+            throw ProductMapper.readOnlyItem();
+        }
+    }
+}
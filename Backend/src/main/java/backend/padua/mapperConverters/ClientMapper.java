@@ -0,0 +1,99 @@
+package backend.padua.mapperConverters;
+
+import backend.padua.data.dto.ClientDTO;
+import backend.padua.data.dto.NewClientDTO;
+import backend.padua.data.projections.ClientView;
+import backend.padua.model.Address;
+import backend.padua.model.Client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ClientMapper {
+
+    private ClientMapper() {
+    }
+
+    public static ClientDTO toDTO(Client s) {
+        if(s == null) return null;
+
+        ClientDTO d = new ClientDTO();
+        d.setId(s.getId());
+        d.setName(s.getName());
+        d.setEmail(s.getEmail());
+
+        return d;
+    }
+
+    public static List<ClientDTO> toDTOList(List<Client> source) {
+        List<ClientDTO> list = new ArrayList<>(source.size());
+
+        for (Client s : source) {
+            list.add(toDTO(s));
+        }
+
+        return list;
+    }
+
+    public static NewClientDTO toNewDTO(Client s) {
+        if(s == null) return null;
+
+        NewClientDTO d = new NewClientDTO();
+        d.setId(s.getId() == null ? 0L : s.getId());
+        d.setName(s.getName());
+        d.setEmail(s.getEmail());
+        d.setCpf(s.getCpf());
+
+        if(s.getAddresses() != null && !s.getAddresses().isEmpty()) {
+            Address ad = s.getAddresses().get(0);
+            d.setAddress(ad.getAddress());
+            d.setNumber(ad.getNumber());
+            d.setComplement(ad.getComplement());
+            d.setNeighborhood(ad.getNeighborhood());
+            d.setCity(ad.getCity());
+            d.setState(ad.getState());
+            d.setCep(ad.getCep());
+        }
+
+        if(s.getTelephones() != null && !s.getTelephones().isEmpty()) {
+            d.setTelephone(s.getTelephones().iterator().next());
+        }
+
+        return d;
+    }
+
+    public static Client toEntity(NewClientDTO s) {
+        if(s == null) return null;
+
+        Client d = new Client();
+        d.setId(s.getId() == 0L ? null : s.getId());
+        d.setName(s.getName());
+        d.setEmail(s.getEmail());
+        d.setCpf(s.getCpf());
+
+        Address ad = Address.builder().address(s.getAddress()).number(s.getNumber()).complement(s.getComplement())
+                .neighborhood(s.getNeighborhood()).city(s.getCity()).state(s.getState()).cep(s.getCep())
+                .client(d).build();
+
+        d.getAddresses().add(ad);
+        d.getTelephones().add(s.getTelephone());
+
+        return d;
+    }
+
+    public static ClientDTO toDTO(ClientView s) {
+        if(s == null) return null;
+
+        return new ClientDTO(s.id(), s.name(), s.email());
+    }
+
+    public static List<ClientDTO> fromViews(List<ClientView> source) {
+        List<ClientDTO> list = new ArrayList<>(source.size());
+
+        for (ClientView s : source) {
+            list.add(toDTO(s));
+        }
+
+        return list;
+    }
+}
@@ -0,0 +1,74 @@
+package backend.padua.mapperConverters;
+
+import backend.padua.data.dto.OrderDTO;
+import backend.padua.model.Address;
+import backend.padua.model.Money;
+import backend.padua.model.Order;
+import backend.padua.model.OrderProducts;
+import backend.padua.model.OrderSummary;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public final class OrderMapper {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private OrderMapper() {
+    }
+
+    public static OrderDTO toDTO(Order s) {
+        if(s == null) return null;
+
+        return toDTO(toSummary(s));
+    }
+
+    public static OrderDTO toDTO(OrderSummary s) {
+        if(s == null) return null;
+
+        OrderDTO d = new OrderDTO();
+        d.setId(s.getId());
+        d.setDate(s.getDate() == null ? null : formatDate(s.getDate()));
+        d.setClientName(s.getClientName());
+        d.setDeliveryAddress(s.getDeliveryAddress());
+        d.setItens(new ArrayList<>(s.getItens()));
+        d.setStatus(s.getStatus() == null ? null : s.getStatus().name());
+        d.setTotal(Money.toDecimal(s.getTotal()));
+
+        return d;
+    }
+
+    public static OrderSummary toSummary(Order s) {
+        if(s == null) return null;
+
+        List<String> itens = new ArrayList<>(s.getItens().size());
+
+        for (OrderProducts item : s.getItens()) {
+            itens.add(item.getQuantity() + "x " + item.getProduct().getName());
+        }
+
+        return OrderSummary.builder()
+                .id(s.getId())
+                .date(s.getDate())
+                .clientName(s.getClient() == null ? null : s.getClient().getName())
+                .deliveryAddress(formatAddress(s.getDelivery_address()))
+                .itens(itens)
+                .status(s.getStatus())
+                .total(s.getTotal())
+                .build();
+    }
+
+    public static String formatAddress(Address ad) {
+        if(ad == null) return null;
+
+        return ad.getAddress() + ", " + ad.getNumber() + " - " + ad.getNeighborhood()
+                + ", " + ad.getCity() + "/" + ad.getState();
+    }
+
+    private static String formatDate(Date date) {
+        return DATE_FORMAT.format(date.toInstant().atZone(ZoneId.systemDefault()));
+    }
+}
@@ -0,0 +1,145 @@
+package backend.padua.mapperConverters;
+
+import backend.padua.data.dto.ProductDTO;
+import backend.padua.data.projections.ProductView;
+import backend.padua.model.Category;
+import backend.padua.model.Money;
+import backend.padua.model.Product;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkRelation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public final class ProductMapper {
+
+    private ProductMapper() {
+    }
+
+    public static ProductDTO toDTO(Product s) {
+        if(s == null) return null;
+
+        ProductDTO d = new ProductDTO();
+        d.setId(s.getId());
+        d.setName(s.getName());
+        d.setPrice(Money.toDecimal(s.getPrice()));
+
+        Category cat = s.getCategory();
+        d.setCategory(cat == null ? null : cat.getName());
+
+        return d;
+    }
+
+    public static ProductDTO toDTO(Product s, String categoryName) {
+        if(s == null) return null;
+
+        return new ProductDTO(s.getId(), s.getName(), Money.toDecimal(s.getPrice()), categoryName);
+    }
+
+    public static Product toEntity(ProductDTO s) {
+        if(s == null) return null;
+
+        Product d = new Product();
+        d.setId(s.getId());
+        d.setName(s.getName());
+        d.setPrice(Money.toCents(s.getPrice()));
+
+        return d;
+    }
+
+    public static List<ProductDTO> toDTOList(List<Product> source) {
+        List<ProductDTO> list = new ArrayList<>(source.size());
+
+        for (Product s : source) {
+            list.add(toDTO(s));
+        }
+
+        return list;
+    }
+
+    public static ProductDTO toDTO(ProductView s) {
+        if(s == null) return null;
+
+        return new ProductDTO(s.id(), s.name(), s.price() == null ? null : Money.toDecimal(s.price()), s.category());
+    }
+
+    public static List<ProductDTO> fromViews(List<ProductView> source) {
+        List<ProductDTO> list = new ArrayList<>(source.size());
+
+        for (ProductView s : source) {
+            list.add(toDTO(s));
+        }
+
+        return list;
+    }
+
+    public static ProductDTO readOnly(ProductDTO s) {
+        if(s == null) return null;
+
+        return new ReadOnlyProductDTO(s);
+    }
+
+    private static final class ReadOnlyProductDTO extends ProductDTO {
+        private static final long serialVersionUID = 1L;
+
+        private ReadOnlyProductDTO(ProductDTO s) {
+            super(s.getId(), s.getName(), s.getPrice(), s.getCategory());
+            super.add(s.getLinks());
+        }
+
+        @Override
+        public void setId(Long id) {
+            throw readOnlyItem();
+        }
+
+        @Override
+        public void setName(String name) {
+            throw readOnlyItem();
+        }
+
+        @Override
+        public void setPrice(Double price) {
+            throw readOnlyItem();
+        }
+
+        @Override
+        public void setCategory(String category) {
+            throw readOnlyItem();
+        }
+
+        @Override
+        public ProductDTO add(Link link) {
+            throw readOnlyItem();
+        }
+
+        @Override
+        public ProductDTO add(Link... links) {
+            throw readOnlyItem();
+        }
+
+        @Override
+        public ProductDTO add(Iterable<Link> links) {
+            throw readOnlyItem();
+        }
+
+        @Override
+        public ProductDTO removeLinks() {
+            throw readOnlyItem();
+        }
+
+        @Override
+        public ProductDTO mapLink(LinkRelation relation, Function<Link, Link> mapper) {
+            throw readOnlyItem();
+        }
+
+        @Override
+        public ProductDTO mapLink(String relation, Function<Link, Link> mapper) {
+            throw readOnlyItem();
+        }
+    }
+
+    static UnsupportedOperationException readOnlyItem() {
+        return new UnsupportedOperationException("Menu snapshot items are read-only");
+    }
+}
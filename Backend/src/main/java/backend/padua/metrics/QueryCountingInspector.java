@@ -0,0 +1,45 @@
+package backend.padua.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class QueryCountingInspector implements StatementInspector {
+
+    public static final String COUNTER = "appburguer.db.queries";
+
+    private final Counter selects;
+    private final Counter inserts;
+    private final Counter updates;
+    private final Counter deletes;
+    private final Counter others;
+
+    public QueryCountingInspector(MeterRegistry registry) {
+        this.selects = counter(registry, "select");
+        this.inserts = counter(registry, "insert");
+        this.updates = counter(registry, "update");
+        this.deletes = counter(registry, "delete");
+        this.others = counter(registry, "other");
+    }
+
+    @Override
+    public String inspect(String sql) {
+        counterFor(sql).increment();
+        return sql;
+    }
+
+    private Counter counterFor(String sql) {
+        String statement = sql.stripLeading();
+
+        if(statement.regionMatches(true, 0, "select", 0, 6)) return selects;
+        if(statement.regionMatches(true, 0, "insert", 0, 6)) return inserts;
+        if(statement.regionMatches(true, 0, "update", 0, 6)) return updates;
+        if(statement.regionMatches(true, 0, "delete", 0, 6)) return deletes;
+
+        return others;
+    }
+
+    private static Counter counter(MeterRegistry registry, String type) {
+        return Counter.builder(COUNTER).tag("type", type).register(registry);
+    }
+}
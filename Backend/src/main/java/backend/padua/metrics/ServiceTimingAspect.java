@@ -0,0 +1,38 @@
+package backend.padua.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+@Aspect
+public class ServiceTimingAspect {
+
+    public static final String TIMER = "appburguer.service";
+
+    private final MeterRegistry registry;
+
+    public ServiceTimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("within(backend.padua.services..*) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint point) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "success";
+
+        try {
+            return point.proceed();
+        } catch (Throwable ex) {
+            outcome = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(TIMER)
+                    .tag("class", point.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", point.getSignature().getName())
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+}
@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -16,10 +18,18 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "category")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Category.CACHE_REGION)
+@Table(name = "category", uniqueConstraints = @UniqueConstraint(name = Category.UNIQUE_NAME, columnNames = "name"))
 public class Category implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    public static final String UNIQUE_NAME = "uk_category_name";
+
+    public static final String CACHE_REGION = "catalog.category";
+
+    public static final String NAME_QUERY_REGION = "catalog.category-by-name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -0,0 +1,34 @@
+package backend.padua.model;
+
+import backend.padua.exceptions.BusinessException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class Money {
+
+    private Money() {
+    }
+
+    public static long toCents(Double amount) {
+        if(amount == null) return 0L;
+
+        try {
+            return BigDecimal.valueOf(amount).setScale(2, RoundingMode.UNNECESSARY).movePointRight(2).longValueExact();
+        } catch (ArithmeticException ex) {
+            throw new BusinessException("Valor monetário inválido.");
+        }
+    }
+
+    public static Double toDecimal(long cents) {
+        return cents / 100.0;
+    }
+
+    public static String toPlainString(long cents) {
+        return BigDecimal.valueOf(cents, 2).toPlainString();
+    }
+
+    public static long subtotal(long priceCents, long discountCents, int quantity) {
+        return Math.multiplyExact(priceCents - discountCents, (long) quantity);
+    }
+}
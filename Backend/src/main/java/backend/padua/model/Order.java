@@ -3,10 +3,8 @@ package backend.padua.model;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serializable;
 import java.util.Date;
@@ -18,12 +16,15 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", uniqueConstraints = @UniqueConstraint(name = Order.UNIQUE_JOURNAL_SEQ, columnNames = "journal_seq"))
 public class Order implements Serializable{
     private static final long serialVersionUID = 1L;
 
+    public static final String UNIQUE_JOURNAL_SEQ = "uk_orders_journal_seq";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm")
@@ -39,6 +40,24 @@ public class Order implements Serializable{
     @JoinColumn(name = "delivery_address_id")
     private Address delivery_address;
 
+    @Column(name = "total_cents", nullable = false)
+    private long total;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus status = OrderStatus.RECEIVED;
+
+    @Version
+    @ColumnDefault("0")
+    private Long version;
+
+    @Column(name = "journal_seq")
+    private Long journalSeq;
+
+    @Builder.Default
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @OneToMany(mappedBy = "id.order", cascade = CascadeType.ALL)
     private Set<OrderProducts> itens = new HashSet<>();
 }
@@ -25,18 +25,19 @@ public class OrderProducts implements Serializable {
     @EmbeddedId
     private OrderProductsPK id;
 
-    @Column
-    private Double price;
+    @Column(name = "price_cents", nullable = false)
+    private long price;
 
-    @Column
-    private Integer quantity;
+    @Column(nullable = false)
+    private int quantity;
 
-    @Column
-    private Double discount;
+    @Column(name = "discount_cents", nullable = false)
+    private long discount;
 
-    public OrderProducts(Order orders,Product product , Double price, Integer
-            quantity, Double discount) {
+    public OrderProducts(Order orders,Product product , long price, int
+            quantity, long discount) {
         super();
+        this.id = new OrderProductsPK();
         id.setOrder(orders);
         id.setProduct(product);
         this.price = price;
@@ -44,8 +45,8 @@ public class OrderProducts implements Serializable {
         this.discount = discount;
     }
 
-    public double getSubTotal(){
-        return (price - discount) * quantity;
+    public long getSubTotal(){
+        return Money.subtotal(price, discount, quantity);
     }
 
     public Order getOrder() {
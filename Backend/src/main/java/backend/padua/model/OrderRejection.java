@@ -0,0 +1,31 @@
+package backend.padua.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Date;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "order_rejection")
+public class OrderRejection implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public static final int REASON_LENGTH = 255;
+
+    @Id
+    private Long receipt;
+
+    @Column(nullable = false, length = REASON_LENGTH)
+    private String reason;
+
+    @Column(name = "rejected_at", nullable = false)
+    private Date rejectedAt;
+}
@@ -0,0 +1,28 @@
+package backend.padua.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum OrderStatus {
+
+    RECEIVED,
+    PREPARING,
+    READY,
+    DISPATCHED,
+    DELIVERED,
+    CANCELLED;
+
+    public boolean canMoveTo(OrderStatus next) {
+        return next != null && nextStates().contains(next);
+    }
+
+    private Set<OrderStatus> nextStates() {
+        return switch (this) {
+            case RECEIVED -> EnumSet.of(PREPARING, CANCELLED);
+            case PREPARING -> EnumSet.of(READY, CANCELLED);
+            case READY -> EnumSet.of(DISPATCHED, CANCELLED);
+            case DISPATCHED -> EnumSet.of(DELIVERED);
+            case DELIVERED, CANCELLED -> EnumSet.noneOf(OrderStatus.class);
+        };
+    }
+}
@@ -3,10 +3,9 @@ package backend.padua.model;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -19,19 +18,26 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "product")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Product.CACHE_REGION)
+@Table(name = "product", uniqueConstraints = @UniqueConstraint(name = Product.UNIQUE_NAME, columnNames = "name"))
 public class Product implements Serializable {
     private static final long serialVersionUID = 1L;
 
+    public static final String UNIQUE_NAME = "uk_product_name";
+
+    public static final String CACHE_REGION = "catalog.product";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 80)
     private String name;
 
-    @Column(nullable = false)
-    private Double price;
+    @Column(name = "price_cents", nullable = false)
+    private long price;
 
     @JsonManagedReference
     @ManyToOne
@@ -39,6 +45,8 @@ public class Product implements Serializable {
     private Category category;
 
     @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
     @OneToMany(mappedBy = "id.product", cascade = CascadeType.ALL)
     private Set<OrderProducts> itens = new HashSet<>();
 
@@ -0,0 +1,53 @@
+package backend.padua.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "sales_aggregate",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_aggregate_key",
+                columnNames = {"granularity", "dimension", "bucket", "dimension_id"}))
+public class SalesAggregate implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sales_aggregate_seq")
+    @SequenceGenerator(name = "sales_aggregate_seq", sequenceName = "sales_aggregate_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SalesGranularity granularity;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private SalesDimension dimension;
+
+    @Column(nullable = false)
+    private LocalDateTime bucket;
+
+    @Column(name = "dimension_id", nullable = false)
+    private Long dimensionId;
+
+    @Column(name = "dimension_name", length = 80)
+    private String dimensionName;
+
+    @Column(nullable = false)
+    private long quantity;
+
+    @Column(name = "revenue_cents", nullable = false)
+    private long revenueCents;
+
+    @Column(nullable = false)
+    private long orders;
+}
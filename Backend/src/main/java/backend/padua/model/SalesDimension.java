@@ -0,0 +1,7 @@
+package backend.padua.model;
+
+public enum SalesDimension {
+
+    PRODUCT,
+    CATEGORY
+}
@@ -0,0 +1,8 @@
+package backend.padua.repositories;
+
+import java.util.List;
+
+public interface BulkRepository<T> {
+
+    int insertAll(List<T> entities, int chunkSize);
+}
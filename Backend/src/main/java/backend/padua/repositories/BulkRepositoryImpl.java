@@ -0,0 +1,34 @@
+package backend.padua.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class BulkRepositoryImpl<T> implements BulkRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int insertAll(List<T> entities, int chunkSize) {
+
+        int count = 0;
+
+        for (T entity : entities) {
+            entityManager.persist(entity);
+
+            if(++count % chunkSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        return count;
+    }
+}
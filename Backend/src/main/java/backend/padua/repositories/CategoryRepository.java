@@ -1,12 +1,29 @@
 package backend.padua.repositories;
 
+import backend.padua.data.projections.CategoryView;
 import backend.padua.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
-    boolean existsByName(String name);
-
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = Category.NAME_QUERY_REGION)
+    })
     Optional<Category> findByName(String name);
+
+    @Query("select new backend.padua.data.projections.CategoryView(c.id, c.name) from Category c order by c.id")
+    List<CategoryView> findAllViews();
+
+    @Query("select new backend.padua.data.projections.CategoryView(c.id, c.name) " +
+            "from Category c where c.id > :after order by c.id")
+    List<CategoryView> findViewsAfter(@Param("after") Long after, Pageable pageable);
 }
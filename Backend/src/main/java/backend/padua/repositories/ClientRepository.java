@@ -1,7 +1,40 @@
 package backend.padua.repositories;
 
+import backend.padua.data.projections.ClientExportRow;
+import backend.padua.data.projections.ClientView;
 import backend.padua.model.Client;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface ClientRepository extends JpaRepository<Client, Long> {
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface ClientRepository extends JpaRepository<Client, Long>, BulkRepository<Client> {
+
+    @Query("select new backend.padua.data.projections.ClientView(c.id, c.name, c.email) from Client c order by c.id")
+    List<ClientView> findAllViews();
+
+    @Query("select new backend.padua.data.projections.ClientView(c.id, c.name, c.email) " +
+            "from Client c where c.id > :after order by c.id")
+    List<ClientView> findViewsAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("select new backend.padua.data.projections.ClientView(c.id, c.name, c.email) from Client c where c.id = :id")
+    Optional<ClientView> findViewById(@Param("id") Long id);
+
+    // Streams in 500-row chunks on MySQL only with useCursorFetch, see PersistenceConfig.mysqlCursorFetch.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new backend.padua.data.projections.ClientExportRow(c.id, c.name, c.email, c.cpf) from Client c order by c.id")
+    Stream<ClientExportRow> streamExport();
+
+    @Query("select distinct c from Client c left join fetch c.addresses order by c.id")
+    List<Client> findAllWithAddresses();
 }
@@ -0,0 +1,13 @@
+package backend.padua.repositories;
+
+import backend.padua.model.OrderRejection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface OrderRejectionRepository extends JpaRepository<OrderRejection, Long> {
+
+    @Query("select max(r.receipt) from OrderRejection r")
+    Optional<Long> findMaxReceipt();
+}
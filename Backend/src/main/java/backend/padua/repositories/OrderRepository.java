@@ -0,0 +1,79 @@
+package backend.padua.repositories;
+
+import backend.padua.data.projections.OrderExportRow;
+import backend.padua.data.projections.OrderLineRow;
+import backend.padua.data.projections.OrderStatusView;
+import backend.padua.model.Order;
+import backend.padua.model.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = {"client", "delivery_address", "itens.id.product"})
+    List<Order> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = {"client", "delivery_address", "itens.id.product"})
+    Optional<Order> findById(Long id);
+
+    boolean existsByJournalSeq(Long journalSeq);
+
+    @Query("select max(o.journalSeq) from Order o")
+    Optional<Long> findMaxJournalSeq();
+
+    @Query("select o.id from Order o where o.journalSeq = :journalSeq")
+    Optional<Long> findIdByJournalSeq(@Param("journalSeq") Long journalSeq);
+
+    @Query("select o.id from Order o where not exists (select s.id from OrderSummary s where s.id = o.id) order by o.id")
+    List<Long> findIdsWithoutSummary(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"client", "delivery_address", "itens.id.product"})
+    @Query("select o from Order o where o.id in :ids")
+    List<Order> findAllWithItens(@Param("ids") List<Long> ids);
+
+    // Streams in 500-row chunks on MySQL only with useCursorFetch, see PersistenceConfig.mysqlCursorFetch.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new backend.padua.data.projections.OrderExportRow(o.id, o.date, c.name, o.status, o.total) " +
+            "from Order o join o.client c where o.date >= :from and o.date < :to order by o.id")
+    Stream<OrderExportRow> streamExport(@Param("from") Date from, @Param("to") Date to);
+
+    @Query("select new backend.padua.data.projections.OrderLineRow(o.id, o.date, p.id, p.name, c.id, c.name, " +
+            "i.quantity, (i.price - i.discount) * i.quantity) " +
+            "from OrderProducts i join i.id.order o join i.id.product p join p.category c " +
+            "where o.date >= :from and o.date < :to and o.status <> backend.padua.model.OrderStatus.CANCELLED " +
+            "order by o.id")
+    List<OrderLineRow> findLinesBetween(@Param("from") Date from, @Param("to") Date to);
+
+    @Query("select new backend.padua.data.projections.OrderLineRow(o.id, o.date, p.id, p.name, c.id, c.name, " +
+            "i.quantity, (i.price - i.discount) * i.quantity) " +
+            "from OrderProducts i join i.id.order o join i.id.product p join p.category c where o.id = :id")
+    List<OrderLineRow> findLinesByOrderId(@Param("id") Long id);
+
+    @Query("select new backend.padua.data.projections.OrderStatusView(o.id, o.status, o.version) from Order o where o.id = :id")
+    Optional<OrderStatusView> findStatusById(@Param("id") Long id);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :next, o.version = o.version + 1 " +
+            "where o.id = :id and o.status = :current and o.version = :version")
+    int updateStatus(@Param("id") Long id, @Param("current") OrderStatus current,
+                     @Param("next") OrderStatus next, @Param("version") Long version);
+}
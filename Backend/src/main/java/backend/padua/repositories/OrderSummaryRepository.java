@@ -0,0 +1,21 @@
+package backend.padua.repositories;
+
+import backend.padua.model.OrderStatus;
+import backend.padua.model.OrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    List<OrderSummary> findAllByOrderByIdAsc();
+
+    @Transactional
+    @Modifying
+    @Query("update OrderSummary s set s.status = :status where s.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") OrderStatus status);
+}
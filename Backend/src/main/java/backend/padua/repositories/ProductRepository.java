@@ -1,9 +1,21 @@
 package backend.padua.repositories;
 
+import backend.padua.data.projections.ProductView;
 import backend.padua.model.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
+import java.util.List;
 
-    boolean existsByName(String name);
+public interface ProductRepository extends JpaRepository<Product, Long>, BulkRepository<Product> {
+
+    @Query("select new backend.padua.data.projections.ProductView(p.id, p.name, p.price, c.name) " +
+            "from Product p join p.category c order by p.id")
+    List<ProductView> findAllViews();
+
+    @Query("select new backend.padua.data.projections.ProductView(p.id, p.name, p.price, c.name) " +
+            "from Product p join p.category c where p.id > :after order by p.id")
+    List<ProductView> findViewsAfter(@Param("after") Long after, Pageable pageable);
 }
@@ -0,0 +1,32 @@
+package backend.padua.repositories;
+
+import backend.padua.model.SalesAggregate;
+import backend.padua.model.SalesDimension;
+import backend.padua.model.SalesGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesAggregateRepository extends JpaRepository<SalesAggregate, Long> {
+
+    @Modifying
+    @Query("update SalesAggregate s set s.quantity = s.quantity + :quantity, " +
+            "s.revenueCents = s.revenueCents + :revenue, s.orders = s.orders + :orders, s.dimensionName = :name " +
+            "where s.granularity = :granularity and s.dimension = :dimension " +
+            "and s.bucket = :bucket and s.dimensionId = :dimensionId")
+    int increment(@Param("granularity") SalesGranularity granularity, @Param("dimension") SalesDimension dimension,
+                  @Param("bucket") LocalDateTime bucket, @Param("dimensionId") Long dimensionId,
+                  @Param("name") String name, @Param("quantity") long quantity,
+                  @Param("revenue") long revenue, @Param("orders") long orders);
+
+    @Modifying
+    @Query("delete from SalesAggregate s where s.bucket >= :from and s.bucket < :to")
+    int deleteBuckets(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    List<SalesAggregate> findByGranularityAndDimensionAndBucketGreaterThanEqualAndBucketLessThanOrderByBucketAscDimensionIdAsc(
+            SalesGranularity granularity, SalesDimension dimension, LocalDateTime from, LocalDateTime to);
+}
@@ -1,48 +1,56 @@
 package backend.padua.services;
 
+import backend.padua.cache.MenuSnapshot;
+import backend.padua.cache.MenuSnapshotCache;
 import backend.padua.controllers.CategoryController;
+import backend.padua.data.dto.CacheStatsDTO;
 import backend.padua.data.dto.CategoryDTO;
-import backend.padua.exceptions.BusinessException;
+import backend.padua.data.dto.CursorPageDTO;
+import backend.padua.data.projections.CategoryView;
 import backend.padua.exceptions.RequiredObjectIsNullException;
 import backend.padua.exceptions.ResourceNotFoundException;
+import backend.padua.hateoas.SelfLinkBuilder;
+import backend.padua.mapperConverters.CategoryMapper;
 import backend.padua.model.Category;
 import backend.padua.repositories.CategoryRepository;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 @Service
 public class CategoryService {
 
     private CategoryRepository repository;
 
-    private ModelMapper modelMapper;
+    private final MenuSnapshotCache<CategoryDTO> menu;
+
+    private final SelfLinkBuilder links = SelfLinkBuilder.relative(CategoryController.class);
 
-    public CategoryService(CategoryRepository repository, ModelMapper modelMapper) {
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+
+    public CategoryService(CategoryRepository repository) {
         this.repository = repository;
-        this.modelMapper = modelMapper;
+        this.menu = new MenuSnapshotCache<>("categories", this::loadAll, CategoryDTO::getId);
+    }
+
+    public void onChange(Runnable listener) {
+        changeListeners.add(listener);
     }
 
     public CategoryDTO create(CategoryDTO category) {
 
         if(category == null) throw new RequiredObjectIsNullException();
 
-        var entity = modelMapper.map(category, Category.class);
+        var entity = CategoryMapper.toEntity(category);
 
-        if(repository.existsByName(entity.getName())) {
-            throw new BusinessException("Nome já cadastrado.");
-        }
+        UniqueNames.save(Category.UNIQUE_NAME, () -> repository.saveAndFlush(entity));
 
-        repository.save(entity);
+        menuChanged();
 
-        var cat = modelMapper.map(entity, CategoryDTO.class);
+        var cat = CategoryMapper.toDTO(entity);
 
-        cat.add(linkTo(methodOn(CategoryController.class).findById(cat.getId())).withSelfRel());
+        links.stamp(cat, cat.getId());
 
         return cat;
     }
@@ -56,36 +64,55 @@ public class CategoryService {
 
         entity.setName(category.getName());
 
-        var cat = modelMapper.map(repository.save(entity), CategoryDTO.class);
+        var cat = CategoryMapper.toDTO(UniqueNames.save(Category.UNIQUE_NAME, () -> repository.saveAndFlush(entity)));
 
-        cat.add(linkTo(methodOn(CategoryController.class).findById(cat.getId())).withSelfRel());
+        menuChanged();
+
+        links.stamp(cat, cat.getId());
 
         return cat;
     }
 
     public List<CategoryDTO> findAll() {
+        return findAllSnapshot().getItems();
+    }
 
-        List<CategoryDTO> categories = modelMapper.map(repository.findAll(), new TypeToken<List<CategoryDTO>>() {}.getType());
+    public MenuSnapshot<CategoryDTO> findAllSnapshot() {
 
-        if(categories.isEmpty()){
+        MenuSnapshot<CategoryDTO> snapshot = menu.get();
+
+        if(snapshot.isEmpty()){
             throw new ResourceNotFoundException("No categories found!");
         }
 
-        categories
-                .stream()
-                .forEach(c -> c.add(linkTo(methodOn(CategoryController.class).findById(c.getId())).withSelfRel()));
+        return snapshot;
+    }
+
+    public CursorPageDTO<CategoryDTO> findPage(Long after, Integer limit) {
+
+        int size = Keyset.limit(limit);
 
-        return categories;
+        List<CategoryView> rows = repository.findViewsAfter(Keyset.after(after), Keyset.probe(size));
+
+        return Keyset.page(rows, size, entity -> links.stamp(CategoryMapper.toDTO(entity), entity.id()), CategoryView::id);
+    }
+
+    public CacheStatsDTO cacheStats() {
+        return menu.stats();
     }
 
     public CategoryDTO findById(Long id) {
 
+        CategoryDTO cached = menu.get().findById(id);
+
+        if(cached != null) return cached;
+
         var entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("No records found for this id!"));
 
-        var cat = modelMapper.map(entity, CategoryDTO.class);
+        var cat = CategoryMapper.toDTO(entity);
 
-        cat.add(linkTo(methodOn(CategoryController.class).findById(cat.getId())).withSelfRel());
+        links.stamp(cat, cat.getId());
 
         return cat;
     }
@@ -96,18 +123,38 @@ public class CategoryService {
                 .orElseThrow(() -> new ResourceNotFoundException("No records found for this id!"));
 
         repository.delete(cat);
-    }
-
 
+        menuChanged();
+    }
 
     public CategoryDTO findByName(String name) {
         var entity = repository.findByName(name)
                 .orElseThrow(() -> new ResourceNotFoundException("No records found for this name!"));
 
-        var cat = modelMapper.map(entity, CategoryDTO.class);
+        var cat = CategoryMapper.toDTO(entity);
 
-        cat.add(linkTo(methodOn(CategoryController.class).findById(cat.getId())).withSelfRel());
+        links.stamp(cat, cat.getId());
 
         return cat;
     }
+
+    public Category findEntityByName(String name) {
+
+        return repository.findByName(name)
+                .orElseThrow(() -> new ResourceNotFoundException("No records found for this name!"));
+    }
+
+    private List<CategoryDTO> loadAll() {
+
+        return CategoryMapper.fromViews(repository.findAllViews()).stream()
+                .map(c -> CategoryMapper.readOnly(links.stamp(c, c.getId())))
+                .toList();
+    }
+
+    private void menuChanged() {
+
+        menu.rebuild();
+
+        changeListeners.forEach(Runnable::run);
+    }
 }
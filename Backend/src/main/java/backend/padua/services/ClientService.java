@@ -1,39 +1,50 @@
 package backend.padua.services;
 
 import backend.padua.controllers.ClientController;
-import backend.padua.controllers.ProductController;
+import backend.padua.data.dto.BulkResultDTO;
 import backend.padua.data.dto.ClientDTO;
+import backend.padua.data.dto.ClientUpdateStatusDTO;
+import backend.padua.data.dto.CursorPageDTO;
 import backend.padua.data.dto.NewClientDTO;
-import backend.padua.data.dto.ProductDTO;
+import backend.padua.data.projections.ClientView;
+import backend.padua.exceptions.BusinessException;
 import backend.padua.exceptions.RequiredObjectIsNullException;
 import backend.padua.exceptions.ResourceNotFoundException;
-import backend.padua.mapperConverters.mapperConverter;
-import backend.padua.model.Address;
+import backend.padua.hateoas.SelfLinkBuilder;
+import backend.padua.journal.ClientUpdate;
+import backend.padua.journal.ClientUpdateStatus;
+import backend.padua.journal.ClientWriteBehind;
+import backend.padua.mapperConverters.ClientMapper;
 import backend.padua.model.Client;
 import backend.padua.repositories.ClientRepository;
-import jakarta.transaction.Transactional;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
-
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 public class ClientService {
 
+    static final int BULK_CHUNK = 1000;
+
+    public static final String UPDATE_STATUS = "update-status";
+
     private ClientRepository repository;
 
-    private ModelMapper modelMapper;
+    private ClientWriteBehind writeBehind;
 
-    public ClientService(ClientRepository repository, ModelMapper modelMapper) {
-        this.repository = repository;
-        this.modelMapper = modelMapper;
+    public ClientService(ClientRepository repository) {
+        this(repository, Optional.empty());
+    }
 
-        modelMapper.addConverter(new mapperConverter.ClientToNewDTOconverter());
-        modelMapper.addConverter(new mapperConverter.NewClientDTOToClientConverter());
+    @Autowired
+    public ClientService(ClientRepository repository, Optional<ClientWriteBehind> writeBehind) {
+        this.repository = repository;
+        this.writeBehind = writeBehind.orElse(null);
     }
 
     @Transactional
@@ -41,29 +52,46 @@ public class ClientService {
 
         if(client == null) throw new RequiredObjectIsNullException();
 
-        Client entity = modelMapper.map(client, Client.class);
-
-        Address ad = Address.builder().address(client.getAddress()).number(client.getNumber())
-                .complement(client.getComplement()).neighborhood(client.getNeighborhood())
-                .city(client.getCity()).state(client.getState()).cep(client.getCep()).client(entity)
-                .build();
-
-        entity.getAddresses().add(ad);
-        entity.getTelephones().add(client.getTelephone());
+        Client entity = ClientMapper.toEntity(client);
 
         repository.save(entity);
 
-        NewClientDTO cli = modelMapper.map(entity, NewClientDTO.class);
+        NewClientDTO cli = ClientMapper.toNewDTO(entity);
 
-        cli.add(linkTo(methodOn(ClientController.class).findById(cli.getId())).withSelfRel());
+        SelfLinkBuilder.of(ClientController.class).stamp(cli, cli.getId());
 
         return cli;
     }
 
+    @Transactional
+    public BulkResultDTO createAll(List<NewClientDTO> clients) {
+
+        if(clients == null || clients.isEmpty()) throw new RequiredObjectIsNullException();
+
+        long start = System.nanoTime();
+
+        List<Client> entities = new ArrayList<>(clients.size());
+
+        for (NewClientDTO client : clients) {
+            Client entity = ClientMapper.toEntity(client);
+            entity.setId(null);
+            entities.add(entity);
+        }
+
+        int created = repository.insertAll(entities, BULK_CHUNK);
+
+        return BulkResultDTO.builder()
+                .created(created)
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
+    }
+
     public ClientDTO update(ClientDTO client) {
 
         if(client == null) throw new RequiredObjectIsNullException();
 
+        if(writeBehind != null) return updateBehind(client);
+
         Client entity = repository.findById(client.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("No records found for this id!"));
 
@@ -72,40 +100,97 @@ public class ClientService {
 
         repository.save(entity);
 
-        ClientDTO cli = modelMapper.map(entity, ClientDTO.class);
+        ClientDTO cli = ClientMapper.toDTO(entity);
 
-        cli.add(linkTo(methodOn(ClientController.class).findById(cli.getId())).withSelfRel());
+        SelfLinkBuilder.of(ClientController.class).stamp(cli, cli.getId());
 
 
         return cli;
     }
 
     public List<ClientDTO> findAll() {
-        List<ClientDTO> clients = modelMapper.map(repository.findAll(), new TypeToken<List<ClientDTO>>() {}.getType());
+        List<ClientDTO> clients = ClientMapper.fromViews(repository.findAllViews());
 
         if(clients.isEmpty()){
             throw new ResourceNotFoundException("No clients found!");
         }
 
-        clients
-                .stream()
-                .forEach(c -> c.add(linkTo(methodOn(ClientController.class).findById(c.getId())).withSelfRel()));
+        Map<Long, ClientUpdate> updates = pendingUpdates();
+
+        SelfLinkBuilder links = SelfLinkBuilder.of(ClientController.class);
+
+        clients.forEach(c -> links.stamp(overlay(c, updates.get(c.getId())), c.getId()));
+
+        return clients;
+    }
+
+    @Transactional(readOnly = true)
+    public List<NewClientDTO> findAllDetailed() {
+        List<Client> entities = repository.findAllWithAddresses();
+
+        if(entities.isEmpty()){
+            throw new ResourceNotFoundException("No clients found!");
+        }
+
+        Map<Long, ClientUpdate> updates = pendingUpdates();
+
+        SelfLinkBuilder links = SelfLinkBuilder.of(ClientController.class);
+
+        List<NewClientDTO> clients = new ArrayList<>(entities.size());
+
+        for (Client entity : entities) {
+            clients.add(links.stamp(overlay(ClientMapper.toNewDTO(entity), updates.get(entity.getId())), entity.getId()));
+        }
 
         return clients;
     }
 
+    public CursorPageDTO<ClientDTO> findPage(Long after, Integer limit) {
+
+        int size = Keyset.limit(limit);
+
+        List<ClientView> rows = repository.findViewsAfter(Keyset.after(after), Keyset.probe(size));
+
+        Map<Long, ClientUpdate> updates = pendingUpdates();
+
+        SelfLinkBuilder links = SelfLinkBuilder.of(ClientController.class);
+
+        return Keyset.page(rows, size,
+                entity -> links.stamp(overlay(ClientMapper.toDTO(entity), updates.get(entity.id())), entity.id()),
+                ClientView::id);
+    }
+
     public ClientDTO findById(Long id) {
 
-        var entity = repository.findById(id)
+        var view = repository.findViewById(id)
                         .orElseThrow(() -> new ResourceNotFoundException("No records found for this id!"));
 
-        ClientDTO cli = modelMapper.map(entity, ClientDTO.class);
+        ClientDTO cli = ClientMapper.toDTO(view);
 
-        cli.add(linkTo(methodOn(ClientController.class).findById(cli.getId())).withSelfRel());
+        if(writeBehind != null) overlay(cli, writeBehind.pending(id).orElse(null));
+
+        SelfLinkBuilder.of(ClientController.class).stamp(cli, cli.getId());
 
         return cli;
     }
 
+    public ClientUpdateStatusDTO findUpdateStatus(Long id) {
+
+        ClientUpdateStatus status = Optional.ofNullable(writeBehind)
+                .flatMap(behind -> behind.status(id))
+                .orElseThrow(() -> new ResourceNotFoundException("No updates found for this id!"));
+
+        ClientUpdateStatusDTO dto = new ClientUpdateStatusDTO(status.id(), status.seq(), status.state().name(), status.reason());
+
+        dto.add(SelfLinkBuilder.of(ClientController.class).forChild(id, UPDATE_STATUS).withSelfRel());
+
+        return dto;
+    }
+
+    public void flushPending() {
+        if(writeBehind != null) writeBehind.flush();
+    }
+
     public void delete(Long id) {
 
         Client cli =  repository.findById(id)
@@ -113,4 +198,46 @@ public class ClientService {
 
         repository.delete(cli);
     }
+
+    private ClientDTO updateBehind(ClientDTO client) {
+
+        if(client.getId() == null) {
+            throw new ResourceNotFoundException("No records found for this id!");
+        }
+
+        if(writeBehind.emailPending(client.getEmail(), client.getId())) {
+            throw new BusinessException("Email já cadastrado.");
+        }
+
+        ClientUpdate update = writeBehind.submit(client.getId(), client.getName(), client.getEmail());
+
+        ClientDTO cli = new ClientDTO(update.id(), update.name(), update.email());
+
+        SelfLinkBuilder links = SelfLinkBuilder.of(ClientController.class);
+
+        links.stamp(cli, cli.getId());
+        cli.add(links.forChild(cli.getId(), UPDATE_STATUS));
+
+        return cli;
+    }
+
+    private Map<Long, ClientUpdate> pendingUpdates() {
+        return writeBehind == null ? Map.of() : writeBehind.pendingUpdates();
+    }
+
+    private static ClientDTO overlay(ClientDTO cli, ClientUpdate update) {
+        if(update != null) {
+            cli.setName(update.name());
+            cli.setEmail(update.email());
+        }
+        return cli;
+    }
+
+    private static NewClientDTO overlay(NewClientDTO cli, ClientUpdate update) {
+        if(update != null) {
+            cli.setName(update.name());
+            cli.setEmail(update.email());
+        }
+        return cli;
+    }
 }
@@ -0,0 +1,36 @@
+package backend.padua.services;
+
+import backend.padua.exceptions.BusinessException;
+
+import java.util.Locale;
+
+public enum ExportFormat {
+
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String fileName(String base) {
+        return base + "." + extension;
+    }
+
+    public static ExportFormat of(String value) {
+        try {
+            return ExportFormat.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException ex) {
+            throw new BusinessException("Formato de exportação inválido.");
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package backend.padua.services;
+
+import backend.padua.data.projections.ClientExportRow;
+import backend.padua.data.projections.OrderExportRow;
+import backend.padua.exceptions.ServiceUnavailableException;
+import backend.padua.model.Money;
+import backend.padua.repositories.ClientRepository;
+import backend.padua.repositories.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Service
+public class ExportService {
+
+    static final int FLUSH_EVERY = 500;
+
+    static final int DEFAULT_MAX_CONCURRENT = 2;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+    private OrderRepository orderRepository;
+
+    private ClientRepository clientRepository;
+
+    private ObjectMapper objectMapper;
+
+    private Semaphore permits;
+
+    public ExportService(OrderRepository orderRepository, ClientRepository clientRepository, ObjectMapper objectMapper) {
+        this(orderRepository, clientRepository, objectMapper, DEFAULT_MAX_CONCURRENT);
+    }
+
+    @Autowired
+    public ExportService(OrderRepository orderRepository, ClientRepository clientRepository, ObjectMapper objectMapper,
+                         @Value("${appburguer.export.max-concurrent:2}") int maxConcurrent) {
+        this.orderRepository = orderRepository;
+        this.clientRepository = clientRepository;
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public void acquire() {
+        if(!permits.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many exports running, try again later!");
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    @Transactional(readOnly = true)
+    public long exportOrders(Date from, Date to, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<OrderExportRow> rows = orderRepository.streamExport(from, to)) {
+            if(format == ExportFormat.NDJSON) return writeNdjson(rows.iterator(), out);
+
+            return writeCsv(rows.iterator(), out, "id,date,client,status,total",
+                    row -> new Object[]{row.id(), formatDate(row.date()), row.clientName(), row.status(),
+                            Money.toPlainString(row.totalCents())});
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportClients(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<ClientExportRow> rows = clientRepository.streamExport()) {
+            if(format == ExportFormat.NDJSON) return writeNdjson(rows.iterator(), out);
+
+            return writeCsv(rows.iterator(), out, "id,name,email,cpf",
+                    row -> new Object[]{row.id(), row.name(), row.email(), row.cpf()});
+        }
+    }
+
+    private <T> long writeNdjson(Iterator<T> rows, OutputStream out) throws IOException {
+
+        long count = 0;
+
+        while (rows.hasNext()) {
+            out.write(objectMapper.writeValueAsBytes(rows.next()));
+            out.write('\n');
+
+            if(++count % FLUSH_EVERY == 0) out.flush();
+        }
+
+        out.flush();
+
+        return count;
+    }
+
+    private <T> long writeCsv(Iterator<T> rows, OutputStream out, String header,
+                              Function<T, Object[]> columns) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        writer.write(header);
+        writer.write('\n');
+
+        long count = 0;
+
+        while (rows.hasNext()) {
+            Object[] values = columns.apply(rows.next());
+
+            for (int i = 0; i < values.length; i++) {
+                if(i > 0) writer.write(',');
+                writeCsvValue(writer, values[i]);
+            }
+
+            writer.write('\n');
+
+            if(++count % FLUSH_EVERY == 0) writer.flush();
+        }
+
+        writer.flush();
+
+        return count;
+    }
+
+    private static void writeCsvValue(Writer writer, Object value) throws IOException {
+
+        if(value == null) return;
+
+        String text = value instanceof String string ? neutralize(string) : value.toString();
+
+        if(text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String neutralize(String text) {
+
+        if(text.isEmpty()) return text;
+
+        char first = text.charAt(0);
+
+        if(first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            return "'" + text;
+        }
+
+        return text;
+    }
+
+    private static String formatDate(Date date) {
+        return date == null ? null : DATE_FORMAT.format(date.toInstant().atZone(ZoneId.systemDefault()));
+    }
+}
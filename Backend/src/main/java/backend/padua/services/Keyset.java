@@ -0,0 +1,52 @@
+package backend.padua.services;
+
+import backend.padua.data.dto.CursorPageDTO;
+import backend.padua.exceptions.BusinessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+final class Keyset {
+
+    static final int DEFAULT_LIMIT = 20;
+
+    static final int MAX_LIMIT = 200;
+
+    private Keyset() {
+    }
+
+    static long after(Long after) {
+        return after == null ? 0L : after;
+    }
+
+    static int limit(Integer limit) {
+
+        if(limit == null) return DEFAULT_LIMIT;
+
+        if(limit < 1) throw new BusinessException("O limite deve ser maior que zero.");
+
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    static Pageable probe(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    static <E, D> CursorPageDTO<D> page(List<E> rows, int limit, Function<E, D> mapper, Function<E, Long> id) {
+
+        int size = Math.min(rows.size(), limit);
+
+        List<D> items = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            items.add(mapper.apply(rows.get(i)));
+        }
+
+        Long nextCursor = rows.size() > limit ? id.apply(rows.get(size - 1)) : null;
+
+        return CursorPageDTO.<D>builder().items(items).nextCursor(nextCursor).limit(limit).build();
+    }
+}
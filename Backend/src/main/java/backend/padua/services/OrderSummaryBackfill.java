@@ -0,0 +1,63 @@
+package backend.padua.services;
+
+import backend.padua.mapperConverters.OrderMapper;
+import backend.padua.model.Order;
+import backend.padua.repositories.OrderRepository;
+import backend.padua.repositories.OrderSummaryRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+
+@Component
+public class OrderSummaryBackfill {
+
+    static final int CHUNK = 500;
+
+    private final OrderRepository repository;
+
+    private final OrderSummaryRepository summaryRepository;
+
+    private final TransactionOperations transactions;
+
+    public OrderSummaryBackfill(OrderRepository repository, OrderSummaryRepository summaryRepository,
+                                TransactionOperations transactions) {
+        this.repository = repository;
+        this.summaryRepository = summaryRepository;
+        this.transactions = transactions;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        backfill();
+    }
+
+    public int backfill() {
+
+        int written = 0;
+
+        while (true) {
+            Integer chunk = transactions.execute(status -> writeChunk());
+
+            if(chunk == null || chunk == 0) return written;
+
+            written += chunk;
+        }
+    }
+
+    private int writeChunk() {
+
+        List<Long> ids = repository.findIdsWithoutSummary(PageRequest.of(0, CHUNK));
+
+        if(ids.isEmpty()) return 0;
+
+        for (Order order : repository.findAllWithItens(ids)) {
+            summaryRepository.save(OrderMapper.toSummary(order));
+        }
+
+        return ids.size();
+    }
+}
@@ -1,21 +1,363 @@
 package backend.padua.services;
 
+import backend.padua.cache.MenuSnapshot;
+import backend.padua.controllers.OrdersController;
+import backend.padua.data.dto.NewOrderDTO;
 import backend.padua.data.dto.OrderDTO;
+import backend.padua.data.dto.OrderItemDTO;
+import backend.padua.data.dto.OrderReceiptDTO;
+import backend.padua.data.dto.OrderStatusDTO;
+import backend.padua.data.dto.ProductDTO;
+import backend.padua.data.projections.OrderLineRow;
+import backend.padua.data.projections.OrderStatusView;
+import backend.padua.events.OrderCancelledEvent;
+import backend.padua.events.OrderLine;
+import backend.padua.events.OrderPlacedEvent;
+import backend.padua.exceptions.BusinessException;
+import backend.padua.exceptions.RequiredObjectIsNullException;
+import backend.padua.exceptions.ResourceNotFoundException;
+import backend.padua.exceptions.UnprocessableEntityException;
+import backend.padua.hateoas.SelfLinkBuilder;
+import backend.padua.journal.OrderJournal;
+import backend.padua.mapperConverters.OrderMapper;
+import backend.padua.model.*;
+import backend.padua.repositories.ClientRepository;
+import backend.padua.repositories.OrderRejectionRepository;
+import backend.padua.repositories.OrderRepository;
+import backend.padua.repositories.OrderSummaryRepository;
+import backend.padua.repositories.ProductRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
-import java.util.List;
+import java.util.*;
 
 @Service
 public class OrdersService {
 
+    static final int STATUS_ATTEMPTS = 5;
+
+    static final String RECEIPTS = "receipts";
+
+    private OrderRepository repository;
+
+    private ClientRepository clientRepository;
+
+    private ProductRepository productRepository;
+
+    private OrderSummaryRepository summaryRepository;
+
+    private ApplicationEventPublisher events;
+
+    private OrderJournal journal;
+
+    private TransactionOperations transactions;
+
+    private ProductService productService;
+
+    private OrderRejectionRepository rejectionRepository;
+
+    @Autowired
+    public OrdersService(OrderRepository repository, ClientRepository clientRepository,
+                         ProductRepository productRepository, OrderSummaryRepository summaryRepository,
+                         ApplicationEventPublisher events, Optional<OrderJournal> journal,
+                         TransactionOperations transactions, ProductService productService,
+                         OrderRejectionRepository rejectionRepository) {
+        this.repository = repository;
+        this.clientRepository = clientRepository;
+        this.productRepository = productRepository;
+        this.summaryRepository = summaryRepository;
+        this.events = events;
+        this.journal = journal.orElse(null);
+        this.transactions = transactions;
+        this.productService = productService;
+        this.rejectionRepository = rejectionRepository;
+    }
+
+    public boolean isJournaled() {
+        return journal != null;
+    }
+
+    public OrderReceiptDTO accept(NewOrderDTO order) {
+
+        if(order == null) throw new RequiredObjectIsNullException();
+
+        if(journal == null) throw new IllegalStateException("Order journal is disabled");
+
+        productIds(order.getItens());
+
+        checkMenu(order.getItens());
+
+        return toReceipt(journal.append(order));
+    }
+
+    public OrderReceiptDTO toReceipt(long receipt) {
+
+        OrderReceiptDTO dto = new OrderReceiptDTO(receipt, OrderStatus.RECEIVED.name());
+
+        SelfLinkBuilder.of(OrdersController.class).stamp(dto, RECEIPTS, receipt);
+
+        return dto;
+    }
+
+    @Transactional
+    public OrderDTO apply(long receipt, Date acceptedAt, NewOrderDTO order) {
+
+        if(repository.existsByJournalSeq(receipt)) return null;
+
+        return place(order, acceptedAt, receipt);
+    }
+
+    public void reject(long receipt, String reason) {
+
+        String text = reason.length() > OrderRejection.REASON_LENGTH ? reason.substring(0, OrderRejection.REASON_LENGTH) : reason;
+
+        rejectionRepository.save(new OrderRejection(receipt, text, new Date()));
+    }
+
+    public long lastAppliedReceipt() {
+
+        long applied = repository.findMaxJournalSeq().orElse(0L);
+
+        return Math.max(applied, rejectionRepository.findMaxReceipt().orElse(0L));
+    }
+
+    public Optional<OrderDTO> findByReceipt(Long receipt) {
+
+        Optional<Long> id = repository.findIdByJournalSeq(receipt);
+
+        if(id.isPresent()) return Optional.of(findById(id.get()));
+
+        rejectionRepository.findById(receipt).ifPresent(rejection -> {
+            throw new UnprocessableEntityException(rejection.getReason());
+        });
+
+        if(journal != null && receipt > 0 && receipt <= journal.durableSeq()) return Optional.empty();
+
+        throw new ResourceNotFoundException("No records found for this receipt!");
+    }
+
+    @Transactional
+    public OrderDTO create(NewOrderDTO order) {
+        return place(order, new Date(), null);
+    }
+
+    private OrderDTO place(NewOrderDTO order, Date date, Long receipt) {
+
+        if(order == null) throw new RequiredObjectIsNullException();
+
+        Client client = clientRepository.findById(order.getClientId())
+                .orElseThrow(() -> new ResourceNotFoundException("No records found for this client!"));
+
+        Address address = client.getAddresses()
+                .stream()
+                .filter(a -> a.getId().equals(order.getAddressId()))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("No records found for this address!"));
+
+        Map<Long, Product> products = findProducts(order.getItens());
+
+        Order entity = new Order();
+        entity.setDate(date);
+        entity.setJournalSeq(receipt);
+        entity.setClient(client);
+        entity.setDelivery_address(address);
+
+        long total = 0L;
+
+        List<OrderLine> lines = new ArrayList<>(order.getItens().size());
+
+        for (OrderItemDTO item : order.getItens()) {
+            Product product = products.get(item.getProductId());
+            long discount = Money.toCents(item.getDiscount());
+
+            if(discount < 0 || discount > product.getPrice()) {
+                throw new BusinessException("Desconto inválido para o produto.");
+            }
+
+            OrderProducts line = new OrderProducts(entity, product, product.getPrice(), item.getQuantity(), discount);
+
+            total = Math.addExact(total, line.getSubTotal());
+
+            lines.add(new OrderLine(product.getId(), product.getName(), product.getCategory().getId(),
+                    product.getCategory().getName(), item.getQuantity(), line.getSubTotal()));
+
+            entity.getItens().add(line);
+        }
+
+        entity.setTotal(total);
+
+        repository.save(entity);
+
+        OrderSummary summary = OrderMapper.toSummary(entity);
+
+        summaryRepository.save(summary);
+
+        OrderDTO dto = toDTO(summary);
+
+        events.publishEvent(new OrderPlacedEvent(dto, entity.getDate(), lines));
+
+        return dto;
+    }
+
     public OrderDTO findById(Long id) {
-        return null;
+
+        Optional<OrderSummary> summary = summaryRepository.findById(id);
+
+        if(summary.isPresent()) return toDTO(summary.get());
+
+        var entity = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("No records found for this id!"));
+
+        return toDTO(OrderMapper.toSummary(entity));
+    }
+
+    public OrderStatusDTO updateStatus(Long id, OrderStatus next) {
+
+        if(next == null) throw new RequiredObjectIsNullException();
+
+        for (int attempt = 0; attempt < STATUS_ATTEMPTS; attempt++) {
+
+            OrderStatusDTO updated = transactions.execute(status -> tryUpdateStatus(id, next));
+
+            if(updated != null) return updated;
+        }
+
+        throw new BusinessException("Pedido alterado simultaneamente, tente novamente.");
+    }
+
+    private OrderStatusDTO tryUpdateStatus(Long id, OrderStatus next) {
+
+        OrderStatusView current = repository.findStatusById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("No records found for this id!"));
+
+        if(current.status() == next) return toStatusDTO(id, next, current.version());
+
+        if(!current.status().canMoveTo(next)) {
+            throw new BusinessException("Transição de status inválida.");
+        }
+
+        if(repository.updateStatus(id, current.status(), next, current.version()) != 1) return null;
+
+        summaryRepository.updateStatus(id, next);
+
+        if(next == OrderStatus.CANCELLED) publishCancelled(id);
+
+        return toStatusDTO(id, next, current.version() + 1);
     }
 
+    @Transactional
     public void delete(Long id){
+
+        Order order = repository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("No records found for this id!"));
+
+        if(order.getStatus() != OrderStatus.CANCELLED) publishCancelled(id);
+
+        summaryRepository.deleteById(id);
+
+        repository.delete(order);
     }
 
     public List<OrderDTO> findAll() {
-        return null;
+
+        List<OrderSummary> orders = summaryRepository.findAllByOrderByIdAsc();
+
+        if(orders.isEmpty()){
+            throw new ResourceNotFoundException("No orders found!");
+        }
+
+        List<OrderDTO> dtos = new ArrayList<>(orders.size());
+
+        SelfLinkBuilder links = SelfLinkBuilder.of(OrdersController.class);
+
+        for (OrderSummary order : orders) {
+            dtos.add(toDTO(order, links));
+        }
+
+        return dtos;
+    }
+
+    private Set<Long> productIds(List<OrderItemDTO> itens) {
+
+        Set<Long> ids = new HashSet<>();
+
+        for (OrderItemDTO item : itens) {
+            if(!ids.add(item.getProductId())) {
+                throw new BusinessException("Produto repetido no pedido.");
+            }
+        }
+
+        return ids;
+    }
+
+    private void checkMenu(List<OrderItemDTO> itens) {
+
+        MenuSnapshot<ProductDTO> menu = productService.findAllSnapshot();
+
+        for (OrderItemDTO item : itens) {
+            ProductDTO product = menu.findById(item.getProductId());
+
+            if(product == null) {
+                throw new ResourceNotFoundException("No records found for this product!");
+            }
+
+            long discount = Money.toCents(item.getDiscount());
+
+            if(discount < 0 || discount > Money.toCents(product.getPrice())) {
+                throw new BusinessException("Desconto inválido para o produto.");
+            }
+        }
+    }
+
+    private Map<Long, Product> findProducts(List<OrderItemDTO> itens) {
+
+        Set<Long> ids = productIds(itens);
+
+        Map<Long, Product> products = new HashMap<>();
+
+        for (Product product : productRepository.findAllById(ids)) {
+            products.put(product.getId(), product);
+        }
+
+        if(products.size() != ids.size()) {
+            throw new ResourceNotFoundException("No records found for this product!");
+        }
+
+        return products;
+    }
+
+    private void publishCancelled(Long id) {
+
+        List<OrderLineRow> rows = repository.findLinesByOrderId(id);
+
+        if(rows.isEmpty()) return;
+
+        List<OrderLine> lines = new ArrayList<>(rows.size());
+
+        for (OrderLineRow row : rows) {
+            lines.add(OrderLine.of(row));
+        }
+
+        events.publishEvent(new OrderCancelledEvent(id, rows.get(0).date(), lines));
+    }
+
+    private OrderStatusDTO toStatusDTO(Long id, OrderStatus status, Long version) {
+
+        OrderStatusDTO dto = new OrderStatusDTO(id, status, version);
+
+        SelfLinkBuilder.of(OrdersController.class).stamp(dto, id);
+
+        return dto;
+    }
+
+    private OrderDTO toDTO(OrderSummary summary) {
+        return toDTO(summary, SelfLinkBuilder.of(OrdersController.class));
+    }
+
+    private OrderDTO toDTO(OrderSummary summary, SelfLinkBuilder links) {
+        return links.stamp(OrderMapper.toDTO(summary), summary.getId());
     }
 }
@@ -1,63 +1,96 @@
 package backend.padua.services;
 
+import backend.padua.cache.MenuSnapshot;
+import backend.padua.cache.MenuSnapshotCache;
 import backend.padua.controllers.ProductController;
+import backend.padua.data.dto.BulkResultDTO;
+import backend.padua.data.dto.CacheStatsDTO;
 import backend.padua.data.dto.ProductDTO;
+import backend.padua.data.dto.CursorPageDTO;
+import backend.padua.data.projections.ProductView;
 import backend.padua.exceptions.BusinessException;
 import backend.padua.exceptions.RequiredObjectIsNullException;
 import backend.padua.exceptions.ResourceNotFoundException;
-import backend.padua.model.Category;
+import backend.padua.hateoas.SelfLinkBuilder;
+import backend.padua.mapperConverters.ProductMapper;
+import backend.padua.model.Money;
 import backend.padua.model.Product;
 import backend.padua.repositories.ProductRepository;
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
+import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+import java.util.*;
 
 @Service
 public class ProductService {
 
+    static final int BULK_CHUNK = 1000;
+
     private ProductRepository repository;
 
     private CategoryService catService;
 
-    private ModelMapper modelMapper;
+    private final MenuSnapshotCache<ProductDTO> menu;
+
+    private final SelfLinkBuilder links = SelfLinkBuilder.relative(ProductController.class);
 
-    public ProductService(ProductRepository repository, CategoryService catService, ModelMapper modelMapper) {
+    public ProductService(ProductRepository repository, CategoryService catService) {
         this.repository = repository;
         this.catService = catService;
-        this.modelMapper = modelMapper;
+        this.menu = new MenuSnapshotCache<>("products", this::loadAll, ProductDTO::getId);
 
-        this.modelMapper.createTypeMap(Product.class, ProductDTO.class)
-                .<String>addMapping(src -> src.getCategory().getName(), (d,v) -> d.setCategory(v));
+        this.catService.onChange(menu::rebuild);
     }
 
     public ProductDTO create(ProductDTO product) {
 
         if(product == null) throw new RequiredObjectIsNullException();
 
-        Category cat = modelMapper.map(catService.findByName(product.getCategory()), Category.class);
+        var entity = ProductMapper.toEntity(product);
 
-        if(cat == null)throw new ResourceNotFoundException("No record found for this category!");
+        entity.setCategory(catService.findEntityByName(product.getCategory()));
 
-        var entity = modelMapper.map(product, Product.class);
+        UniqueNames.save(Product.UNIQUE_NAME, () -> repository.saveAndFlush(entity));
 
-        entity.setCategory(cat);
+        menu.rebuild();
 
-        if(repository.existsByName(entity.getName())) {
-            throw new BusinessException("Nome já cadastrado.");
-        }
+        var prod = ProductMapper.toDTO(entity, product.getCategory());
 
-        repository.save(entity);
+        links.stamp(prod, prod.getId());
 
-        var prod = modelMapper.map(entity, ProductDTO.class);
+        return prod;
+    }
 
-        prod.add(linkTo(methodOn(ProductController.class).findById(prod.getId())).withSelfRel());
+    @Transactional
+    public BulkResultDTO createAll(List<ProductDTO> products) {
 
-        return prod;
+        if(products == null || products.isEmpty()) throw new RequiredObjectIsNullException();
+
+        long start = System.nanoTime();
+
+        Set<String> names = new HashSet<>();
+        List<Product> entities = new ArrayList<>(products.size());
+
+        for (ProductDTO product : products) {
+
+            if(!names.add(product.getName())) throw new BusinessException("Nome já cadastrado.");
+
+            Product entity = ProductMapper.toEntity(product);
+
+            entity.setId(null);
+            entity.setCategory(catService.findEntityByName(product.getCategory()));
+
+            entities.add(entity);
+        }
+
+        int created = UniqueNames.save(Product.UNIQUE_NAME, () -> repository.insertAll(entities, BULK_CHUNK));
+
+        AfterCommit.run(menu::rebuild);
+
+        return BulkResultDTO.builder()
+                .created(created)
+                .elapsedMillis((System.nanoTime() - start) / 1_000_000)
+                .build();
     }
 
     public ProductDTO update(ProductDTO product) {
@@ -68,38 +101,59 @@ public class ProductService {
                 .orElseThrow(() -> new ResourceNotFoundException("No records found for this id!"));
 
         entity.setName(product.getName());
-        entity.setPrice(product.getPrice());
+        entity.setPrice(Money.toCents(product.getPrice()));
 
-        repository.save(entity);
+        UniqueNames.save(Product.UNIQUE_NAME, () -> repository.saveAndFlush(entity));
 
-        ProductDTO prod = modelMapper.map(entity, ProductDTO.class);
+        menu.rebuild();
 
-        prod.add(linkTo(methodOn(ProductController.class).findById(prod.getId())).withSelfRel());
+        ProductDTO prod = ProductMapper.toDTO(entity);
+
+        links.stamp(prod, prod.getId());
 
         return prod;
     }
 
     public List<ProductDTO> findAll() {
-        List<ProductDTO> products = modelMapper.map(repository.findAll(), new TypeToken<List<ProductDTO>>() {}.getType());
+        return findAllSnapshot().getItems();
+    }
+
+    public MenuSnapshot<ProductDTO> findAllSnapshot() {
 
-        if(products.isEmpty()){
+        MenuSnapshot<ProductDTO> snapshot = menu.get();
+
+        if(snapshot.isEmpty()){
             throw new ResourceNotFoundException("No products found!");
         }
 
-        products
-                .stream()
-                .forEach(c -> c.add(linkTo(methodOn(ProductController.class).findById(c.getId())).withSelfRel()));
+        return snapshot;
+    }
 
-        return products;
+    public CursorPageDTO<ProductDTO> findPage(Long after, Integer limit) {
+
+        int size = Keyset.limit(limit);
+
+        List<ProductView> rows = repository.findViewsAfter(Keyset.after(after), Keyset.probe(size));
+
+        return Keyset.page(rows, size, entity -> links.stamp(ProductMapper.toDTO(entity), entity.id()), ProductView::id);
+    }
+
+    public CacheStatsDTO cacheStats() {
+        return menu.stats();
     }
 
     public ProductDTO findById(Long id) {
+
+        ProductDTO cached = menu.get().findById(id);
+
+        if(cached != null) return cached;
+
         var entity = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("No records found for this id!"));
 
-        var prod = modelMapper.map(entity, ProductDTO.class);
+        var prod = ProductMapper.toDTO(entity);
 
-        prod.add(linkTo(methodOn(ProductController.class).findById(prod.getId())).withSelfRel());
+        links.stamp(prod, prod.getId());
 
         return prod;
     }
@@ -111,5 +165,14 @@ public class ProductService {
                 .orElseThrow(() -> new ResourceNotFoundException("No records found for this id!"));
 
         repository.delete(prod);
+
+        menu.rebuild();
+    }
+
+    private List<ProductDTO> loadAll() {
+
+        return ProductMapper.fromViews(repository.findAllViews()).stream()
+                .map(c -> ProductMapper.readOnly(links.stamp(c, c.getId())))
+                .toList();
     }
 }
@@ -0,0 +1,65 @@
+package backend.padua.services;
+
+import backend.padua.data.dto.SalesReportDTO;
+import backend.padua.events.SalesAggregator;
+import backend.padua.exceptions.BusinessException;
+import backend.padua.model.Money;
+import backend.padua.model.SalesAggregate;
+import backend.padua.model.SalesDimension;
+import backend.padua.model.SalesGranularity;
+import backend.padua.repositories.SalesAggregateRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class ReportService {
+
+    static final int MAX_DAYS = 366;
+
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private SalesAggregateRepository repository;
+
+    private SalesAggregator aggregator;
+
+    public ReportService(SalesAggregateRepository repository, SalesAggregator aggregator) {
+        this.repository = repository;
+        this.aggregator = aggregator;
+    }
+
+    public List<SalesReportDTO> sales(SalesGranularity granularity, SalesDimension dimension, LocalDate from, LocalDate to) {
+
+        checkPeriod(from, to);
+
+        List<SalesAggregate> rows = repository
+                .findByGranularityAndDimensionAndBucketGreaterThanEqualAndBucketLessThanOrderByBucketAscDimensionIdAsc(
+                        granularity, dimension, from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+
+        List<SalesReportDTO> report = new ArrayList<>(rows.size());
+
+        for (SalesAggregate row : rows) {
+            report.add(new SalesReportDTO(BUCKET_FORMAT.format(row.getBucket()), row.getDimensionId(),
+                    row.getDimensionName(), row.getQuantity(), Money.toDecimal(row.getRevenueCents()), row.getOrders()));
+        }
+
+        return report;
+    }
+
+    public int reconcile(LocalDate from, LocalDate to) {
+
+        checkPeriod(from, to);
+
+        return aggregator.reconcile(from, to);
+    }
+
+    private static void checkPeriod(LocalDate from, LocalDate to) {
+
+        if(to.isBefore(from)) throw new BusinessException("Período inválido.");
+
+        if(from.plusDays(MAX_DAYS).isBefore(to)) throw new BusinessException("O período máximo é de um ano.");
+    }
+}
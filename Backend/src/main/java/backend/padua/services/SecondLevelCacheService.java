@@ -0,0 +1,38 @@
+package backend.padua.services;
+
+import backend.padua.config.SecondLevelCacheConfig;
+import backend.padua.data.dto.RegionStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class SecondLevelCacheService {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public List<RegionStatsDTO> stats() {
+
+        List<RegionStatsDTO> regions = new ArrayList<>(SecondLevelCacheConfig.REGIONS.size());
+
+        for (String region : SecondLevelCacheConfig.REGIONS) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+
+            if(stats == null) continue;
+
+            regions.add(new RegionStatsDTO(region, stats.getHitCount(), stats.getMissCount(),
+                    stats.getPutCount(), stats.getElementCountInMemory()));
+        }
+
+        return regions;
+    }
+}
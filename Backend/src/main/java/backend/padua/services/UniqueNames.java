@@ -0,0 +1,34 @@
+package backend.padua.services;
+
+import backend.padua.exceptions.BusinessException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+final class UniqueNames {
+
+    private UniqueNames() {
+    }
+
+    static <T> T save(String constraint, Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException ex) {
+            if(violates(ex, constraint)) throw new BusinessException("Nome já cadastrado.");
+            throw ex;
+        }
+    }
+
+    static boolean violates(Throwable ex, String constraint) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if(cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraint)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
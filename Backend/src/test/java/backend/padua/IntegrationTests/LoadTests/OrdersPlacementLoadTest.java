@@ -0,0 +1,154 @@
+package backend.padua.IntegrationTests.LoadTests;
+
+import backend.padua.data.dto.NewOrderDTO;
+import backend.padua.data.dto.OrderItemDTO;
+import backend.padua.model.Address;
+import backend.padua.model.Category;
+import backend.padua.model.Client;
+import backend.padua.model.Product;
+import backend.padua.repositories.CategoryRepository;
+import backend.padua.repositories.ClientRepository;
+import backend.padua.repositories.OrderRepository;
+import backend.padua.repositories.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("load")
+@EnabledIfSystemProperty(named = "appburguer.load-tests", matches = "true")
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class OrdersPlacementLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrdersPlacementLoadTest.class);
+
+    static final String ORDER_API = "/api/orders";
+
+    static final int THREADS = 16;
+
+    static final int ORDERS = 4000;
+
+    static final int WARMUP_ORDERS = 500;
+
+    static final double MIN_ORDERS_PER_SECOND = 300.0;
+
+    @Autowired
+    TestRestTemplate rest;
+
+    @Autowired
+    OrderRepository orderRepository;
+
+    @Autowired
+    ClientRepository clientRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    NewOrderDTO order;
+
+    @BeforeEach
+    public void setUp() {
+
+        Category cat = categoryRepository.save(Category.builder().name("Lanches").build());
+
+        List<OrderItemDTO> itens = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            Product prod = productRepository.save(Product.builder().name("Produto " + i)
+                    .price(1000L + 100L * i).category(cat).build());
+            itens.add(OrderItemDTO.builder().productId(prod.getId()).quantity(1 + i).build());
+        }
+
+        Client cli = Client.builder().name("Client").email("load@xx.com").cpf("77058753067")
+                .addresses(new ArrayList<>()).telephones(new java.util.HashSet<>()).build();
+
+        Address ad = Address.builder().address("Rua").number(10).neighborhood("Bairro")
+                .city("Cidade").state("Estado").cep("10111000").client(cli).build();
+
+        cli.getAddresses().add(ad);
+        cli = clientRepository.save(cli);
+
+        order = NewOrderDTO.builder().clientId(cli.getId())
+                .addressId(cli.getAddresses().get(0).getId()).itens(itens).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        orderRepository.deleteAll();
+        clientRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve sustentar algumas centenas de pedidos por segundo em um único nó.")
+    public void shouldSustainOrderPlacementThroughputTest() throws Exception {
+
+        place(WARMUP_ORDERS);
+
+        long start = System.nanoTime();
+        int failures = place(ORDERS);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        double ordersPerSecond = ORDERS / seconds;
+
+        log.info("Orders placed through POST {}: {} in {} s ({} orders/s, {} failures)",
+                ORDER_API, ORDERS, String.format("%.2f", seconds), Math.round(ordersPerSecond), failures);
+
+        assertThat(failures).as("failed POST %s requests", ORDER_API).isZero();
+        assertThat(orderRepository.count()).isEqualTo(WARMUP_ORDERS + ORDERS);
+        assertThat(ordersPerSecond).as("orders per second").isGreaterThanOrEqualTo(MIN_ORDERS_PER_SECOND);
+    }
+
+    private int place(int orders) throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger failures = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(orders);
+
+        for (int i = 0; i < orders; i++) {
+            executor.execute(() -> {
+                try {
+                    ResponseEntity<String> response = rest.postForEntity(ORDER_API, order, String.class);
+
+                    if(response.getStatusCode().value() != HttpStatus.CREATED.value()) failures.incrementAndGet();
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        boolean finished = done.await(5, TimeUnit.MINUTES);
+        executor.shutdown();
+
+        assertThat(finished).as("all %d requests answered", orders).isTrue();
+
+        return failures.get();
+    }
+}
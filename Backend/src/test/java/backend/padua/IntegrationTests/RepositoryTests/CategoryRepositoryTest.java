@@ -1,6 +1,7 @@
 package backend.padua.IntegrationTests.RepositoryTests;
 
 
+import backend.padua.data.projections.CategoryView;
 import backend.padua.model.Category;
 import backend.padua.repositories.CategoryRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -9,9 +10,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 @ExtendWith(SpringExtension.class)
@@ -35,7 +40,7 @@ public class CategoryRepositoryTest {
 
         entityManager.persist(cat);
 
-        boolean exists = repository.existsByName(name);
+        boolean exists = repository.findByName(name).isPresent();
 
         assertThat(exists).isTrue();
 
@@ -47,7 +52,7 @@ public class CategoryRepositoryTest {
 
         String name = "Category";
 
-        boolean exists = repository.existsByName(name);
+        boolean exists = repository.findByName(name).isPresent();
 
         assertThat(exists).isFalse();
 
@@ -77,6 +82,38 @@ public class CategoryRepositoryTest {
         assertThat( foundCat.isPresent() ).isTrue();
     }
 
+    @Test
+    @DisplayName("Deve obter as categorias seguintes ao cursor em ordem de id.")
+    public void findViewsAfterTest() {
+
+        Category first = Category.builder().name("Category1").build();
+        Category second = Category.builder().name("Category2").build();
+        Category third = Category.builder().name("Category3").build();
+
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.persist(third);
+
+        List<CategoryView> page = repository.findViewsAfter(first.getId(), PageRequest.of(0, 1));
+
+        assertThat( page ).hasSize(1);
+        assertThat( page.get(0).id() ).isEqualTo(second.getId());
+        assertThat( page.get(0).name() ).isEqualTo(second.getName());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar no banco uma categoria com nome já cadastrado.")
+    public void uniqueNameConstraintTest() {
+
+        entityManager.persist(Category.builder().name("Category").build());
+        entityManager.flush();
+
+        Throwable exception = catchThrowable(() ->
+                repository.saveAndFlush(Category.builder().name("Category").build()));
+
+        assertThat( exception ).isInstanceOf(DataIntegrityViolationException.class);
+    }
+
     @Test
     @DisplayName("Deve salvar uma client.")
     public void saveCategoryTest() {
@@ -3,9 +3,9 @@ package backend.padua.IntegrationTests.RepositoryTests;
 
 import backend.padua.model.Address;
 import backend.padua.model.Client;
-import backend.padua.model.Client;
-import backend.padua.repositories.ClientRepository;
 import backend.padua.repositories.ClientRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,6 +27,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DataJpaTest
 public class ClientRepositoryTest {
 
+    static final int MANY_CLIENTS = 120;
+
+    static final int PHONE_BATCH_SIZE = 50;
+
     @Autowired
     TestEntityManager entityManager;
 
@@ -59,6 +63,72 @@ public class ClientRepositoryTest {
         assertThat( foundCli.isPresent() ).isTrue();
     }
 
+    @Test
+    @DisplayName("Deve listar clientes com endereços e telefones sem consultas adicionais por cliente.")
+    public void findAllWithAddressesTest() {
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        persistClients(0, 2);
+        long fewClients = countListingStatements(statistics, 2);
+
+        persistClients(2, MANY_CLIENTS);
+        long manyClients = countListingStatements(statistics, MANY_CLIENTS);
+
+        long phoneBatches = (MANY_CLIENTS + PHONE_BATCH_SIZE - 1) / PHONE_BATCH_SIZE;
+
+        assertThat( fewClients ).isEqualTo(2);
+        assertThat( manyClients ).isGreaterThan(fewClients).isLessThanOrEqualTo(1 + phoneBatches);
+    }
+
+    @Test
+    @DisplayName("Deve listar cada endereço uma única vez para clientes com vários telefones.")
+    public void findAllWithAddressesAndPhonesTest() {
+
+        Client cli = Client.builder().name("Client").email("x@xx.com").cpf("123456789")
+                .addresses(new ArrayList<>()).telephones(new HashSet<>(Set.of("00123456781", "00123456782"))).build();
+
+        for (int i = 0; i < 2; i++) {
+            cli.getAddresses().add(Address.builder().address("Rua").neighborhood("Bairro").number(i)
+                    .city("Cidade").state("Estado").cep("000000000").client(cli).build());
+        }
+
+        entityManager.persist(cli);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Client> clients = repository.findAllWithAddresses();
+
+        assertThat( clients ).hasSize(1);
+        assertThat( clients.get(0).getAddresses() ).hasSize(2);
+        assertThat( clients.get(0).getTelephones() ).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Deve inserir clientes em lote com endereços e telefones.")
+    public void insertAllTest() {
+
+        List<Client> clients = new ArrayList<>();
+
+        for (int i = 0; i < 120; i++) {
+            Client cli = Client.builder().name("Client" + i).email(i + "@xx.com").cpf("123456789")
+                    .addresses(new ArrayList<>()).telephones(new HashSet<>(Set.of("00123456789"))).build();
+
+            cli.getAddresses().add(Address.builder().address("Rua").neighborhood("Bairro").number(i)
+                    .city("Cidade").state("Estado").cep("000000000").client(cli).build());
+
+            clients.add(cli);
+        }
+
+        int created = repository.insertAll(clients, 50);
+
+        assertThat( created ).isEqualTo(120);
+        assertThat( repository.count() ).isEqualTo(120);
+        assertThat( repository.findAllWithAddresses() ).allMatch(c -> c.getAddresses().size() == 1);
+    }
+
     @Test
     @DisplayName("Deve salvar um cliente.")
     public void saveClientTest() {
@@ -85,4 +155,36 @@ public class ClientRepositoryTest {
         assertThat(deleteCat).isNull();
     }
 
+    private void persistClients(int from, int to) {
+        for (int i = from; i < to; i++) {
+            Client cli = Client.builder().name("Client" + i).email(i + "@xx.com").cpf("123456789")
+                    .addresses(new ArrayList<>()).telephones(new HashSet<>(Set.of("0012345678" + i % 10))).build();
+
+            cli.getAddresses().add(Address.builder().address("Rua").neighborhood("Bairro").number(i)
+                    .city("Cidade").state("Estado").cep("000000000").client(cli).build());
+
+            entityManager.persist(cli);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countListingStatements(Statistics statistics, int expected) {
+        statistics.clear();
+
+        List<Client> clients = repository.findAllWithAddresses();
+
+        assertThat( clients ).hasSize(expected);
+
+        for (Client cli : clients) {
+            assertThat( cli.getAddresses() ).hasSize(1);
+            assertThat( cli.getTelephones() ).hasSize(1);
+        }
+
+        entityManager.clear();
+
+        return statistics.getPrepareStatementCount();
+    }
+
 }
@@ -0,0 +1,93 @@
+package backend.padua.IntegrationTests.RepositoryTests;
+
+import backend.padua.model.OrderStatus;
+import backend.padua.model.OrderSummary;
+import backend.padua.repositories.OrderSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+public class OrderSummaryRepositoryTest {
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    OrderSummaryRepository repository;
+
+    @Test
+    @DisplayName("Deve gravar e ler o resumo do pedido em uma única linha.")
+    public void saveAndFindTest(){
+
+        repository.save(summary(7L));
+        entityManager.flush();
+        entityManager.clear();
+
+        OrderSummary found = repository.findById(7L).orElseThrow();
+
+        assertThat( found.getClientName() ).isEqualTo("Cliente");
+        assertThat( found.getItens() ).containsExactly("2x Lanche", "1x Bebida");
+        assertThat( found.getTotal() ).isEqualTo(6800L);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o status do resumo do pedido.")
+    public void updateStatusTest(){
+
+        repository.save(summary(8L));
+        entityManager.flush();
+
+        int updated = repository.updateStatus(8L, OrderStatus.PREPARING);
+        entityManager.clear();
+
+        assertThat( updated ).isEqualTo(1);
+        assertThat( repository.findById(8L).orElseThrow().getStatus() ).isEqualTo(OrderStatus.PREPARING);
+    }
+
+    @Test
+    @DisplayName("Deve gravar o resumo com nome e endereço no tamanho máximo do cadastro.")
+    public void saveLongNameAndAddressTest(){
+
+        String name = "N".repeat(120);
+        String address = String.join(", ", List.of("A".repeat(160), "1".repeat(160), "B".repeat(160),
+                "C".repeat(160), "D".repeat(160)));
+
+        OrderSummary summary = summary(9L);
+        summary.setClientName(name);
+        summary.setDeliveryAddress(address);
+
+        repository.save(summary);
+        entityManager.flush();
+        entityManager.clear();
+
+        OrderSummary found = repository.findById(9L).orElseThrow();
+
+        assertThat( found.getClientName() ).isEqualTo(name);
+        assertThat( found.getDeliveryAddress() ).isEqualTo(address);
+    }
+
+    private static OrderSummary summary(Long id) {
+        return OrderSummary.builder()
+                .id(id)
+                .date(new Date())
+                .clientName("Cliente")
+                .deliveryAddress("Rua, 10 - Bairro, Cidade/Estado")
+                .itens(List.of("2x Lanche", "1x Bebida"))
+                .status(OrderStatus.RECEIVED)
+                .total(6800L)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package backend.padua.IntegrationTests.RepositoryTests;
 import backend.padua.model.Category;
 import backend.padua.model.Product;
 import backend.padua.repositories.ProductRepository;
+import jakarta.persistence.PersistenceException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 @ExtendWith(SpringExtension.class)
 @ActiveProfiles("test")
@@ -26,34 +28,19 @@ public class ProductRepositoryTest {
     ProductRepository repository;
 
     @Test
-    @DisplayName("Deve retornar verdadeiro quando existir um produto na base com o nome informado")
-    public void returnTrueWhenNameExists(){
+    @DisplayName("Deve rejeitar um produto com nome já cadastrado na base")
+    public void rejectDuplicatedNameTest(){
 
         Category cat = Category.builder().name("Category").build();
 
         entityManager.persist(cat);
 
-        String name = "Product";
+        entityManager.persistAndFlush(Product.builder().name("Product").price(1000L).category(cat).build());
 
-        Product prod = Product.builder().name("Product").price(10.0).category(cat).build();
+        Throwable exception = catchThrowable(() ->
+                entityManager.persistAndFlush(Product.builder().name("Product").price(2000L).category(cat).build()));
 
-        entityManager.persist(prod);
-
-        boolean exists = repository.existsByName(name);
-
-        assertThat(exists).isTrue();
-
-    }
-
-    @Test
-    @DisplayName("Deve retornar falso quando não existir um produto na base com o nome informado")
-    public void returnFalseWhenNameExists(){
-
-        String name = "Product";
-
-        boolean exists = repository.existsByName(name);
-
-        assertThat(exists).isFalse();
+        assertThat(exception).isInstanceOf(PersistenceException.class);
 
     }
 
@@ -65,7 +52,7 @@ public class ProductRepositoryTest {
 
         entityManager.persist(cat);
 
-        Product prod = Product.builder().name("Product").price(10.0).category(cat).build();
+        Product prod = Product.builder().name("Product").price(1000L).category(cat).build();
         entityManager.persist(prod);
 
         var foundProd = repository.findById(prod.getId());
@@ -81,7 +68,7 @@ public class ProductRepositoryTest {
 
         entityManager.persist(cat);
 
-        Product prod = Product.builder().name("Product").price(10.0).category(cat).build();
+        Product prod = Product.builder().name("Product").price(1000L).category(cat).build();
 
         Product savedCat = repository.save(prod);
 
@@ -96,7 +83,7 @@ public class ProductRepositoryTest {
 
         entityManager.persist(cat);
 
-        Product prod = Product.builder().name("Product").price(10.0).category(cat).build();
+        Product prod = Product.builder().name("Product").price(1000L).category(cat).build();
         entityManager.persist(prod);
 
         Product foundProd = entityManager.find(Product.class, prod.getId());
@@ -0,0 +1,106 @@
+package backend.padua.IntegrationTests.RepositoryTests;
+
+import backend.padua.config.SecondLevelCacheConfig;
+import backend.padua.model.Category;
+import backend.padua.model.Product;
+import backend.padua.repositories.CategoryRepository;
+import backend.padua.repositories.ProductRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@DataJpaTest
+@Import(SecondLevelCacheConfig.class)
+public class SecondLevelCacheTest {
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    CategoryRepository categoryRepository;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    Statistics statistics;
+
+    @BeforeEach
+    public void setUp(){
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Deve servir o produto e sua categoria do cache de segundo nível sem nova consulta.")
+    public void findByIdFromCacheTest(){
+
+        Category cat = entityManager.persist(Category.builder().name("Lanches").build());
+        Product prod = entityManager.persist(Product.builder().name("Lanche").price(3000L).category(cat).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        productRepository.findById(prod.getId());
+        entityManager.clear();
+
+        long statements = statistics.getPrepareStatementCount();
+
+        Product cached = productRepository.findById(prod.getId()).orElseThrow();
+
+        assertThat( cached.getCategory().getName() ).isEqualTo("Lanches");
+        assertThat( statistics.getPrepareStatementCount() ).isEqualTo(statements);
+        assertThat( statistics.getCacheRegionStatistics(Product.CACHE_REGION).getHitCount() ).isEqualTo(1);
+        assertThat( statistics.getCacheRegionStatistics(Category.CACHE_REGION).getHitCount() ).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve guardar a busca de categoria por nome no cache de consultas.")
+    public void findByNameFromQueryCacheTest(){
+
+        entityManager.persist(Category.builder().name("Bebidas").build());
+        entityManager.flush();
+        entityManager.clear();
+
+        categoryRepository.findByName("Bebidas");
+        entityManager.clear();
+
+        assertThat( categoryRepository.findByName("Bebidas") ).isPresent();
+        assertThat( statistics.getQueryCacheHitCount() ).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache de consultas ao alterar uma categoria.")
+    public void invalidateQueryCacheOnUpdateTest(){
+
+        Category cat = entityManager.persist(Category.builder().name("Sobremesas").build());
+        entityManager.flush();
+        entityManager.clear();
+
+        categoryRepository.findByName("Sobremesas");
+
+        Category managed = categoryRepository.findById(cat.getId()).orElseThrow();
+        managed.setName("Doces");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat( categoryRepository.findByName("Sobremesas") ).isEmpty();
+        assertThat( categoryRepository.findByName("Doces") ).isPresent();
+    }
+}
@@ -0,0 +1,67 @@
+package backend.padua.cacheTest;
+
+import backend.padua.cache.CatalogResponseEncoder;
+import backend.padua.cache.EncodedCatalog;
+import backend.padua.cache.MenuSnapshot;
+import backend.padua.controllers.ProductController;
+import backend.padua.data.dto.ProductDTO;
+import backend.padua.hateoas.SelfLinkBuilder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CatalogResponseEncoderTest {
+
+    private MenuSnapshot<ProductDTO> snapshot() {
+
+        ProductDTO product = ProductDTO.builder().id(1L).name("Product").price(10.0).category("Category").build();
+
+        SelfLinkBuilder.relative(ProductController.class).stamp(product, product.getId());
+
+        return new MenuSnapshot<>(1L, List.of(product), ProductDTO::getId);
+    }
+
+    @Test
+    @DisplayName("Deve serializar os links do catálogo no formato HAL.")
+    public void shouldSerializeHalLinksTest() throws Exception {
+
+        CatalogResponseEncoder encoder = new CatalogResponseEncoder("products", new ObjectMapper());
+
+        EncodedCatalog encoded = encoder.encode(snapshot());
+
+        JsonNode item = new ObjectMapper().readTree(encoded.getJson()).get(0);
+
+        assertThat( item.path("_links").path("self").path("href").asText() ).isEqualTo("/api/products/1");
+        assertThat( item.has("links") ).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve usar ETags distintas para a resposta comprimida e sem compressão.")
+    public void shouldUseDistinctEtagsPerEncodingTest() {
+
+        CatalogResponseEncoder encoder = new CatalogResponseEncoder("products", new ObjectMapper());
+
+        MenuSnapshot<ProductDTO> snapshot = snapshot();
+
+        ResponseEntity<byte[]> gzip = encoder.respond(snapshot, null, "gzip");
+        ResponseEntity<byte[]> identity = encoder.respond(snapshot, null, null);
+
+        String gzipEtag = gzip.getHeaders().getETag();
+        String identityEtag = identity.getHeaders().getETag();
+
+        assertThat( gzipEtag ).isNotEqualTo(identityEtag);
+        assertThat( gzip.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING) ).isEqualTo("gzip");
+
+        assertThat( encoder.respond(snapshot, gzipEtag, null).getStatusCode() ).isEqualTo(HttpStatus.OK);
+        assertThat( encoder.respond(snapshot, identityEtag, null).getStatusCode() ).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat( encoder.respond(snapshot, gzipEtag, "gzip").getStatusCode() ).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+}
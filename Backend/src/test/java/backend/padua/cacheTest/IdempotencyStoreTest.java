@@ -0,0 +1,90 @@
+package backend.padua.cacheTest;
+
+import backend.padua.cache.IdempotencyStore;
+import backend.padua.exceptions.BusinessException;
+import backend.padua.exceptions.UnprocessableEntityException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class IdempotencyStoreTest {
+
+    @Test
+    @DisplayName("Deve responder a repetição da mesma chave sem executar a ação novamente.")
+    public void shouldReplayStoredResultTest() {
+
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = store.execute("key", () -> "order-" + calls.incrementAndGet());
+        String second = store.execute("key", () -> "order-" + calls.incrementAndGet());
+
+        assertThat( second ).isSameAs(first);
+        assertThat( calls.get() ).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a mesma chave enviada com outro conteúdo.")
+    public void shouldRejectKeyReusedWithAnotherFingerprintTest() {
+
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        store.execute("key", "body-1", () -> "order-" + calls.incrementAndGet());
+
+        Throwable exception = catchThrowable(() ->
+                store.execute("key", "body-2", () -> "order-" + calls.incrementAndGet()));
+
+        assertThat( exception ).isInstanceOf(UnprocessableEntityException.class);
+        assertThat( store.execute("key", "body-1", () -> "order-" + calls.incrementAndGet()) ).isEqualTo("order-1");
+        assertThat( calls.get() ).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve executar novamente quando a chave expirar.")
+    public void shouldExpireStoredResultTest() {
+
+        AtomicLong now = new AtomicLong();
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, Duration.ofSeconds(30), now::get);
+        AtomicInteger calls = new AtomicInteger();
+
+        store.execute("key", () -> "order-" + calls.incrementAndGet());
+        now.addAndGet(Duration.ofSeconds(31).toNanos());
+        String replay = store.execute("key", () -> "order-" + calls.incrementAndGet());
+
+        assertThat( replay ).isEqualTo("order-2");
+    }
+
+    @Test
+    @DisplayName("Deve descartar as chaves mais antigas ao atingir o limite.")
+    public void shouldEvictEldestKeysTest() {
+
+        IdempotencyStore<String> store = new IdempotencyStore<>(2, Duration.ofMinutes(1));
+
+        store.execute("a", () -> "a");
+        store.execute("b", () -> "b");
+        store.execute("c", () -> "c");
+
+        assertThat( store.size() ).isEqualTo(2);
+        assertThat( store.execute("a", () -> "a2") ).isEqualTo("a2");
+    }
+
+    @Test
+    @DisplayName("Não deve guardar o resultado de uma ação que falhou.")
+    public void shouldNotStoreFailuresTest() {
+
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, Duration.ofMinutes(1));
+
+        Throwable exception = catchThrowable(() ->
+                store.execute("key", () -> { throw new BusinessException("Desconto inválido para o produto."); }));
+
+        assertThat( exception ).isInstanceOf(BusinessException.class);
+        assertThat( store.execute("key", () -> "order") ).isEqualTo("order");
+    }
+}
@@ -1,7 +1,9 @@
 package backend.padua.controllerTest;
 
+import backend.padua.cache.MenuSnapshot;
 import backend.padua.controllers.CategoryController;
 import backend.padua.data.dto.CategoryDTO;
+import backend.padua.data.dto.CursorPageDTO;
 import backend.padua.exceptions.BusinessException;
 import backend.padua.services.CategoryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,10 +15,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
@@ -157,7 +161,7 @@ public class CategoryControllerTest {
         categories.add(category2);
         categories.add(category3);
 
-        given(service.findAll()).willReturn(categories);
+        given(service.findAllSnapshot()).willReturn(new MenuSnapshot<>(1L, categories, CategoryDTO::getId));
 
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
                 .get(CATEGORY_API)
@@ -180,6 +184,69 @@ public class CategoryControllerTest {
 
     }
 
+    @Test
+    @DisplayName("Deve retornar a página de categorias após o cursor com o limite padrão.")
+    public void shouldFindCategoriesPageWithDefaultLimitTest() throws Exception{
+
+        List<CategoryDTO> categories = new ArrayList<>();
+
+        categories.add(CategoryDTO.builder().id(11L).name("Category11").build());
+
+        CursorPageDTO<CategoryDTO> page = CursorPageDTO.<CategoryDTO>builder().items(categories).nextCursor(11L).limit(20).build();
+
+        given(service.findPage(10L, null)).willReturn(page);
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get(CATEGORY_API)
+                .param("after", "10")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isOk() )
+                .andExpect( jsonPath("items", hasSize(1)) )
+                .andExpect( jsonPath("items[0].id").value(11L) )
+                .andExpect( jsonPath("limit").value(20) );
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem corpo quando o catálogo não mudou.")
+    public void notModifiedCatalogTest() throws Exception {
+
+        List<CategoryDTO> categories = new ArrayList<>();
+
+        categories.add(CategoryDTO.builder().id(1L).name("Category1").build());
+
+        given(service.findAllSnapshot()).willReturn(new MenuSnapshot<>(7L, categories, CategoryDTO::getId));
+
+        MvcResult first = mvc
+                .perform( MockMvcRequestBuilders.get(CATEGORY_API)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip") )
+                .andExpect( status().isOk() )
+                .andExpect( header().string(HttpHeaders.CONTENT_ENCODING, "gzip") )
+                .andExpect( header().exists(HttpHeaders.ETAG) )
+                .andReturn();
+
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc
+                .perform( MockMvcRequestBuilders.get(CATEGORY_API)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag) )
+                .andExpect( status().isNotModified() )
+                .andExpect( header().string(HttpHeaders.ETAG, etag) )
+                .andExpect( content().bytes(new byte[0]) );
+
+        mvc
+                .perform( MockMvcRequestBuilders.get(CATEGORY_API)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag) )
+                .andExpect( status().isOk() )
+                .andExpect( header().doesNotExist(HttpHeaders.CONTENT_ENCODING) );
+    }
+
     @Test
     @DisplayName("Deve obter informações de uma categoria.")
     public void getCategoryByIdTest() throws Exception {
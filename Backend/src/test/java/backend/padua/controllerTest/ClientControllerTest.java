@@ -3,9 +3,13 @@ package backend.padua.controllerTest;
 import backend.padua.controllers.ClientController;
 import backend.padua.data.dto.CategoryDTO;
 import backend.padua.data.dto.ClientDTO;
+import backend.padua.data.dto.ClientUpdateStatusDTO;
+import backend.padua.data.dto.CursorPageDTO;
 import backend.padua.data.dto.NewClientDTO;
 import backend.padua.data.dto.ProductDTO;
 import backend.padua.services.ClientService;
+import backend.padua.services.ExportFormat;
+import backend.padua.services.ExportService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,18 +19,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
@@ -44,6 +54,9 @@ public class ClientControllerTest {
     @MockBean
     ClientService service;
 
+    @MockBean
+    ExportService exportService;
+
     @Test
     @DisplayName("Deve criar um cliente com sucesso.")
     public void shouldCreateClientTest() throws Exception{
@@ -185,6 +198,45 @@ public class ClientControllerTest {
                 .andExpect( jsonPath("email").value(updatedClient.getEmail()));
     }
 
+    @Test
+    @DisplayName("Deve aceitar a atualização do cliente no modo write-behind.")
+    public void shouldAcceptClientUpdateBehindTest() throws Exception{
+
+        ClientDTO dto = ClientDTO.builder().id(1L).name("Client").email("x@xxx.com").build();
+
+        ClientDTO accepted = ClientDTO.builder().id(1L).name("Client").email("x@xxx.com").build();
+        accepted.add(Link.of("http://localhost/api/clients/1/update-status", ClientService.UPDATE_STATUS));
+
+        given(service.update(Mockito.any(ClientDTO.class))).willReturn(accepted);
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .put(CLIENT_API)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(dto));
+
+        mvc
+                .perform( request )
+                .andExpect( status().isAccepted())
+                .andExpect( header().string(HttpHeaders.LOCATION, "http://localhost/api/clients/1/update-status"))
+                .andExpect( jsonPath("name").value("Client"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a situação da atualização do cliente.")
+    public void shouldFindClientUpdateStatusTest() throws Exception{
+
+        given(service.findUpdateStatus(1L))
+                .willReturn(new ClientUpdateStatusDTO(1L, 3L, "REJECTED", "Email já cadastrado."));
+
+        mvc
+                .perform( MockMvcRequestBuilders.get(CLIENT_API.concat("/1/update-status"))
+                        .accept(MediaType.APPLICATION_JSON) )
+                .andExpect( status().isOk())
+                .andExpect( jsonPath("status").value("REJECTED"))
+                .andExpect( jsonPath("reason").value("Email já cadastrado."));
+    }
+
     @Test
     @DisplayName("Deve retornar uma lista dos clientes.")
     public void shouldFindAllClientsTest() throws Exception{
@@ -224,6 +276,105 @@ public class ClientControllerTest {
                 .andExpect( jsonPath("$[2].email").value(Client3.getEmail()) );
     }
 
+    @Test
+    @DisplayName("Deve retornar os clientes com endereço e telefone.")
+    public void shouldFindAllDetailedClientsTest() throws Exception{
+
+        NewClientDTO client = getNewClientDTO();
+        client.setId(1L);
+
+        given(service.findAllDetailed()).willReturn(List.of(client));
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get(CLIENT_API.concat("/details"))
+                .accept(MediaType.APPLICATION_JSON);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isOk() )
+                .andExpect( jsonPath("$", hasSize(1)) )
+                .andExpect( jsonPath("$[0].id").value(client.getId()) )
+                .andExpect( jsonPath("$[0].address").value(client.getAddress()) )
+                .andExpect( jsonPath("$[0].telephone").value(client.getTelephone()) );
+    }
+
+    @Test
+    @DisplayName("Deve exportar os clientes em CSV por streaming.")
+    public void shouldExportClientsTest() throws Exception{
+
+        willAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("id,name,email,cpf\n1,Client1,x@xxx.com,77058753067\n".getBytes());
+            return 1L;
+        }).given(exportService).exportClients(Mockito.eq(ExportFormat.CSV), Mockito.any(OutputStream.class));
+
+        MvcResult result = mvc
+                .perform( MockMvcRequestBuilders.get(CLIENT_API.concat("/export")).param("format", "csv") )
+                .andExpect( request().asyncStarted() )
+                .andReturn();
+
+        mvc
+                .perform( asyncDispatch(result) )
+                .andExpect( status().isOk() )
+                .andExpect( header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"clients.csv\"") )
+                .andExpect( content().string("id,name,email,cpf\n1,Client1,x@xxx.com,77058753067\n") );
+
+        Mockito.verify(exportService, Mockito.times(1)).acquire();
+        Mockito.verify(exportService, Mockito.times(1)).release();
+    }
+
+    @Test
+    @DisplayName("Deve retornar uma página de clientes a partir do cursor.")
+    public void shouldFindClientsPageTest() throws Exception{
+
+        List<ClientDTO> clients = new ArrayList<>();
+
+        clients.add(ClientDTO.builder().id(11L).name("Client11").email("x@xxx.com").build());
+        clients.add(ClientDTO.builder().id(12L).name("Client12").email("xx@xxx.com").build());
+
+        CursorPageDTO<ClientDTO> page = CursorPageDTO.<ClientDTO>builder().items(clients).nextCursor(12L).limit(2).build();
+
+        given(service.findPage(10L, 2)).willReturn(page);
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get(CLIENT_API)
+                .param("after", "10")
+                .param("limit", "2")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isOk() )
+                .andExpect( jsonPath("items", hasSize(2)) )
+                .andExpect( jsonPath("items[0].id").value(11L) )
+                .andExpect( jsonPath("nextCursor").value(12L) )
+                .andExpect( jsonPath("limit").value(2) );
+    }
+
+    @Test
+    @DisplayName("Deve retornar a página de clientes após o cursor com o limite padrão.")
+    public void shouldFindClientsPageWithDefaultLimitTest() throws Exception{
+
+        List<ClientDTO> clients = new ArrayList<>();
+
+        clients.add(ClientDTO.builder().id(11L).name("Client11").build());
+
+        CursorPageDTO<ClientDTO> page = CursorPageDTO.<ClientDTO>builder().items(clients).nextCursor(11L).limit(20).build();
+
+        given(service.findPage(10L, null)).willReturn(page);
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get(CLIENT_API)
+                .param("after", "10")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isOk() )
+                .andExpect( jsonPath("items", hasSize(1)) )
+                .andExpect( jsonPath("items[0].id").value(11L) )
+                .andExpect( jsonPath("limit").value(20) );
+    }
+
     @Test
     @DisplayName("Deve retornar Cliente pelo id.")
     public void shouldFindClientByIdTest() throws Exception {
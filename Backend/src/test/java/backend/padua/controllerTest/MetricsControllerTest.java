@@ -0,0 +1,61 @@
+package backend.padua.controllerTest;
+
+import backend.padua.controllers.MetricsController;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@WebMvcTest(controllers = MetricsController.class)
+@AutoConfigureMockMvc
+public class MetricsControllerTest {
+
+    static final String METRICS_API = "/api/metrics";
+
+    @Autowired
+    MockMvc mvc;
+
+    @Autowired
+    PrometheusMeterRegistry registry;
+
+    @TestConfiguration
+    static class RegistryConfig {
+
+        @Bean
+        PrometheusMeterRegistry prometheusMeterRegistry() {
+            return new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve expor as métricas no formato do Prometheus.")
+    public void shouldScrapeMetricsTest() throws Exception{
+
+        registry.counter("appburguer.errors", "exception", "BusinessException", "status", "400").increment();
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get(METRICS_API);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isOk() )
+                .andExpect( content().string(containsString("appburguer_errors_total{exception=\"BusinessException\",status=\"400\"} 1.0")) );
+    }
+}
@@ -1,8 +1,17 @@
 package backend.padua.controllerTest;
 
 import backend.padua.controllers.OrdersController;
+import backend.padua.data.dto.NewOrderDTO;
 import backend.padua.data.dto.OrderDTO;
+import backend.padua.data.dto.OrderItemDTO;
+import backend.padua.data.dto.OrderReceiptDTO;
+import backend.padua.data.dto.OrderStatusDTO;
+import backend.padua.events.OrderEventBus;
+import backend.padua.exceptions.UnprocessableEntityException;
+import backend.padua.model.OrderStatus;
+import backend.padua.services.ExportService;
 import backend.padua.services.OrdersService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,15 +21,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.BDDMockito.*;
@@ -40,10 +54,207 @@ public class OrdersControllerTest {
     @MockBean
     OrdersService service;
 
+    @MockBean
+    OrderEventBus bus;
+
+    @MockBean
+    ExportService exportService;
+
     @Test
     @DisplayName("Deve criar um pedido com sucesso.")
     public void shouldCreateOrderTest() throws Exception {
 
+        List<OrderItemDTO> orderItens = new ArrayList<>();
+
+        orderItens.add(OrderItemDTO.builder().productId(1L).quantity(2).build());
+        orderItens.add(OrderItemDTO.builder().productId(2L).quantity(1).discount(1.0).build());
+
+        NewOrderDTO dto = NewOrderDTO.builder().clientId(1L).addressId(1L).itens(orderItens).build();
+
+        String json = new ObjectMapper().writeValueAsString(dto);
+
+        List<String> itens = new ArrayList<>();
+
+        itens.add("2x Lanche");
+        itens.add("1x Bebida");
+
+        OrderDTO savedDTO = OrderDTO.builder().id(1L).date("24/08/2023 12:00").clientName("Client")
+                .deliveryAddress("Rua, 10 - Bairro, Cidade/Estado").itens(itens).build();
+
+        given(service.create(Mockito.any(NewOrderDTO.class))).willReturn(savedDTO);
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .post(ORDER_API)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(json);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isCreated() )
+                .andExpect( jsonPath("id").value(savedDTO.getId()) )
+                .andExpect( jsonPath("clientName").value(savedDTO.getClientName()) )
+                .andExpect( jsonPath("deliveryAddress").value(savedDTO.getDeliveryAddress()) )
+                .andExpect( jsonPath("itens", hasSize(2)) );
+    }
+
+    @Test
+    @DisplayName("Deve responder a repetição com a mesma Idempotency-Key sem criar outro pedido.")
+    public void shouldReplayOrderWithSameIdempotencyKeyTest() throws Exception {
+
+        List<OrderItemDTO> orderItens = new ArrayList<>();
+        orderItens.add(OrderItemDTO.builder().productId(1L).quantity(1).build());
+
+        String json = new ObjectMapper().writeValueAsString(NewOrderDTO.builder().clientId(1L).addressId(1L).itens(orderItens).build());
+
+        OrderDTO savedDTO = OrderDTO.builder().id(1L).date("24/08/2023 12:00").clientName("Client")
+                .deliveryAddress("Rua, 10 - Bairro, Cidade/Estado").itens(List.of("1x Lanche")).build();
+
+        given(service.create(Mockito.any(NewOrderDTO.class))).willReturn(savedDTO);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                    .post(ORDER_API)
+                    .header("Idempotency-Key", "b7c1f0a2-retry")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(json);
+
+            mvc
+                    .perform( request )
+                    .andExpect( status().isCreated() )
+                    .andExpect( jsonPath("id").value(savedDTO.getId()) );
+        }
+
+        Mockito.verify(service, Mockito.times(1)).create(Mockito.any(NewOrderDTO.class));
+    }
+
+    @Test
+    @DisplayName("Deve responder 422 ao repetir a Idempotency-Key com outro pedido.")
+    public void shouldRejectIdempotencyKeyReusedWithAnotherOrderTest() throws Exception {
+
+        List<OrderItemDTO> orderItens = new ArrayList<>();
+        orderItens.add(OrderItemDTO.builder().productId(1L).quantity(1).build());
+
+        String first = new ObjectMapper().writeValueAsString(NewOrderDTO.builder().clientId(1L).addressId(1L).itens(orderItens).build());
+        String second = new ObjectMapper().writeValueAsString(NewOrderDTO.builder().clientId(2L).addressId(2L).itens(orderItens).build());
+
+        OrderDTO savedDTO = OrderDTO.builder().id(1L).date("24/08/2023 12:00").clientName("Client")
+                .deliveryAddress("Rua, 10 - Bairro, Cidade/Estado").itens(List.of("1x Lanche")).build();
+
+        given(service.create(Mockito.any(NewOrderDTO.class))).willReturn(savedDTO);
+
+        mvc
+                .perform( MockMvcRequestBuilders.post(ORDER_API)
+                        .header("Idempotency-Key", "c91d2e4f-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(first) )
+                .andExpect( status().isCreated() );
+
+        mvc
+                .perform( MockMvcRequestBuilders.post(ORDER_API)
+                        .header("Idempotency-Key", "c91d2e4f-reused")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(second) )
+                .andExpect( status().isUnprocessableEntity() );
+
+        Mockito.verify(service, Mockito.times(1)).create(Mockito.any(NewOrderDTO.class));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar o pedido pelo journal e devolver o recibo quando o journal estiver ativo.")
+    public void shouldAcceptJournaledOrderTest() throws Exception {
+
+        List<OrderItemDTO> orderItens = new ArrayList<>();
+        orderItens.add(OrderItemDTO.builder().productId(1L).quantity(1).build());
+
+        String json = new ObjectMapper().writeValueAsString(NewOrderDTO.builder().clientId(1L).addressId(1L).itens(orderItens).build());
+
+        OrderReceiptDTO receipt = new OrderReceiptDTO(42L, "RECEIVED");
+        receipt.add(Link.of("http://localhost/api/orders/receipts/42"));
+
+        given(service.isJournaled()).willReturn(true);
+        given(service.accept(Mockito.any(NewOrderDTO.class))).willReturn(receipt);
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .post(ORDER_API)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(json);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isAccepted() )
+                .andExpect( header().string("Location", "http://localhost/api/orders/receipts/42") )
+                .andExpect( jsonPath("receipt").value(42) )
+                .andExpect( jsonPath("status").value("RECEIVED") );
+
+        Mockito.verify(service, Mockito.never()).create(Mockito.any(NewOrderDTO.class));
+    }
+
+    @Test
+    @DisplayName("Deve devolver o recibo como pendente enquanto o pedido não foi aplicado.")
+    public void shouldFindPendingReceiptTest() throws Exception {
+
+        given(service.findByReceipt(42L)).willReturn(Optional.empty());
+        given(service.toReceipt(42L)).willReturn(new OrderReceiptDTO(42L, "RECEIVED"));
+
+        mvc
+                .perform( MockMvcRequestBuilders.get(ORDER_API.concat("/receipts/42")).accept(MediaType.APPLICATION_JSON) )
+                .andExpect( status().isAccepted() )
+                .andExpect( jsonPath("receipt").value(42) )
+                .andExpect( jsonPath("status").value("RECEIVED") );
+    }
+
+    @Test
+    @DisplayName("Deve devolver o motivo quando o pedido do recibo foi rejeitado.")
+    public void shouldFailRejectedReceiptTest() throws Exception {
+
+        given(service.findByReceipt(42L)).willThrow(new UnprocessableEntityException("No records found for this client!"));
+
+        mvc
+                .perform( MockMvcRequestBuilders.get(ORDER_API.concat("/receipts/42")).accept(MediaType.APPLICATION_JSON) )
+                .andExpect( status().isUnprocessableEntity() )
+                .andExpect( jsonPath("message").value("No records found for this client!") );
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro de validação para desconto negativo.")
+    public void shouldNotCreateOrderWithNegativeDiscountTest() throws Exception {
+
+        List<OrderItemDTO> orderItens = List.of(OrderItemDTO.builder().productId(1L).quantity(1).discount(-1.0).build());
+
+        String json = new ObjectMapper().writeValueAsString(NewOrderDTO.builder().clientId(1L).addressId(1L).itens(orderItens).build());
+
+        mvc
+                .perform( MockMvcRequestBuilders.post(ORDER_API)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(json) )
+                .andExpect( status().isBadRequest() );
+
+        Mockito.verify(service, Mockito.never()).accept(Mockito.any(NewOrderDTO.class));
+        Mockito.verify(service, Mockito.never()).create(Mockito.any(NewOrderDTO.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro de validação ao tentar criar pedido sem dados suficientes.")
+    public void shouldNotCreateInvalidOrderTest() throws Exception {
+
+        String json = new ObjectMapper().writeValueAsString(new NewOrderDTO());
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .post(ORDER_API)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(json);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isBadRequest() )
+                .andExpect( jsonPath("errorList", hasSize(3)) );
     }
 
     @Test
@@ -127,6 +338,44 @@ public class OrdersControllerTest {
                 .andExpect( jsonPath("itens").value(dto.getItens()));
     }
 
+    @Test
+    @DisplayName("Deve atualizar o status de um pedido.")
+    public void shouldUpdateOrderStatusTest() throws Exception {
+
+        String json = new ObjectMapper().writeValueAsString(OrderStatusDTO.builder().status(OrderStatus.READY).build());
+
+        given(service.updateStatus(1L, OrderStatus.READY))
+                .willReturn(OrderStatusDTO.builder().id(1L).status(OrderStatus.READY).version(3L).build());
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .patch(ORDER_API.concat("/1/status"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(json);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isOk() )
+                .andExpect( jsonPath("id").value(1L) )
+                .andExpect( jsonPath("status").value("READY") )
+                .andExpect( jsonPath("version").value(3L) );
+    }
+
+    @Test
+    @DisplayName("Deve abrir o stream de novos pedidos.")
+    public void shouldOpenOrdersStreamTest() throws Exception {
+
+        given(bus.subscribe()).willReturn(new SseEmitter());
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get(ORDER_API.concat("/stream"))
+                .accept(MediaType.TEXT_EVENT_STREAM);
+
+        mvc
+                .perform( request )
+                .andExpect( request().asyncStarted() );
+    }
+
     @Test
     @DisplayName("Deve deletar um pedido.")
     public void shouldDeleteOrdersTest() throws Exception{
@@ -149,4 +398,20 @@ public class OrdersControllerTest {
                 .perform( request )
                 .andExpect( status().isNoContent());
     }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando não houver conexão disponível.")
+    public void shouldAnswerUnavailableWhenPoolIsExhaustedTest() throws Exception {
+
+        given(service.findById(1L)).willThrow(new CannotCreateTransactionException("Could not open JPA EntityManager"));
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get(ORDER_API.concat("/1"))
+                .accept(MediaType.APPLICATION_JSON);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isServiceUnavailable() )
+                .andExpect( header().string(HttpHeaders.RETRY_AFTER, "1") );
+    }
 }
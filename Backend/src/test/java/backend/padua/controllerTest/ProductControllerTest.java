@@ -1,6 +1,9 @@
 package backend.padua.controllerTest;
 
+import backend.padua.cache.MenuSnapshot;
 import backend.padua.controllers.ProductController;
+import backend.padua.data.dto.BulkResultDTO;
+import backend.padua.data.dto.CursorPageDTO;
 import backend.padua.data.dto.ProductDTO;
 import backend.padua.exceptions.BusinessException;
 import backend.padua.services.ProductService;
@@ -13,10 +16,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
@@ -69,6 +74,53 @@ public class ProductControllerTest {
 
     }
 
+    @Test
+    @DisplayName("Deve criar uma carga de produtos em lote.")
+    public void createAllProductsTest() throws Exception {
+
+        List<ProductDTO> dtos = new ArrayList<>();
+        dtos.add(ProductDTO.builder().name("Product1").price(10.00).category("Category").build());
+        dtos.add(ProductDTO.builder().name("Product2").price(20.00).category("Category").build());
+
+        String json = new ObjectMapper().writeValueAsString(dtos);
+
+        given(service.createAll(Mockito.anyList())).willReturn(BulkResultDTO.builder().created(2).elapsedMillis(5L).build());
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .post(PRODUCT_API.concat("/bulk"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(json);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isCreated() )
+                .andExpect( jsonPath("created").value(2) );
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro de validação ao criar lote com produto inválido.")
+    public void createAllInvalidProductsTest() throws Exception {
+
+        List<ProductDTO> dtos = new ArrayList<>();
+        dtos.add(ProductDTO.builder().name("Product1").price(10.00).category("Category").build());
+        dtos.add(ProductDTO.builder().name("P").price(20.00).category("Category").build());
+
+        String json = new ObjectMapper().writeValueAsString(dtos);
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .post(PRODUCT_API.concat("/bulk"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(json);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isBadRequest() );
+
+        Mockito.verify(service, Mockito.never()).createAll(Mockito.anyList());
+    }
+
     @Test
     @DisplayName("Deve lançar erro de validação ao tentar criar produto com dados insuficientes.")
     public void createInvalidProductTest() throws Exception{
@@ -159,7 +211,7 @@ public class ProductControllerTest {
         products.add(product2);
         products.add(product3);
 
-        given(service.findAll()).willReturn(products);
+        given(service.findAllSnapshot()).willReturn(new MenuSnapshot<>(1L, products, ProductDTO::getId));
 
         MockHttpServletRequestBuilder request = MockMvcRequestBuilders
                 .get(PRODUCT_API)
@@ -188,6 +240,69 @@ public class ProductControllerTest {
 
     }
 
+    @Test
+    @DisplayName("Deve retornar a página de produtos após o cursor com o limite padrão.")
+    public void shouldFindProductsPageWithDefaultLimitTest() throws Exception{
+
+        List<ProductDTO> products = new ArrayList<>();
+
+        products.add(ProductDTO.builder().id(11L).name("Product11").build());
+
+        CursorPageDTO<ProductDTO> page = CursorPageDTO.<ProductDTO>builder().items(products).nextCursor(11L).limit(20).build();
+
+        given(service.findPage(10L, null)).willReturn(page);
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get(PRODUCT_API)
+                .param("after", "10")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isOk() )
+                .andExpect( jsonPath("items", hasSize(1)) )
+                .andExpect( jsonPath("items[0].id").value(11L) )
+                .andExpect( jsonPath("limit").value(20) );
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem corpo quando o catálogo não mudou.")
+    public void notModifiedCatalogTest() throws Exception {
+
+        List<ProductDTO> products = new ArrayList<>();
+
+        products.add(ProductDTO.builder().id(1L).name("Product1").build());
+
+        given(service.findAllSnapshot()).willReturn(new MenuSnapshot<>(7L, products, ProductDTO::getId));
+
+        MvcResult first = mvc
+                .perform( MockMvcRequestBuilders.get(PRODUCT_API)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip") )
+                .andExpect( status().isOk() )
+                .andExpect( header().string(HttpHeaders.CONTENT_ENCODING, "gzip") )
+                .andExpect( header().exists(HttpHeaders.ETAG) )
+                .andReturn();
+
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc
+                .perform( MockMvcRequestBuilders.get(PRODUCT_API)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag) )
+                .andExpect( status().isNotModified() )
+                .andExpect( header().string(HttpHeaders.ETAG, etag) )
+                .andExpect( content().bytes(new byte[0]) );
+
+        mvc
+                .perform( MockMvcRequestBuilders.get(PRODUCT_API)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag) )
+                .andExpect( status().isOk() )
+                .andExpect( header().doesNotExist(HttpHeaders.CONTENT_ENCODING) );
+    }
+
     @Test
     @DisplayName("Deve buscar um produto por Id com sucesso.")
     public void findProductByIdTest() throws Exception{
@@ -0,0 +1,106 @@
+package backend.padua.controllerTest;
+
+import backend.padua.controllers.ReportController;
+import backend.padua.data.dto.SalesReportDTO;
+import backend.padua.model.SalesDimension;
+import backend.padua.model.SalesGranularity;
+import backend.padua.services.ReportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+@WebMvcTest(controllers = ReportController.class)
+@AutoConfigureMockMvc
+public class ReportControllerTest {
+
+    static final String REPORT_API = "/api/reports/sales";
+
+    @Autowired
+    MockMvc mvc;
+
+    @MockBean
+    ReportService service;
+
+    @Test
+    @DisplayName("Deve retornar as vendas agregadas por hora e categoria.")
+    public void salesTest() throws Exception{
+
+        LocalDate day = LocalDate.of(2024, 5, 10);
+
+        SalesReportDTO row = new SalesReportDTO("2024-05-10T12:00:00", 10L, "Lanches", 4L, 125.5, 2L);
+
+        given(service.sales(SalesGranularity.HOUR, SalesDimension.CATEGORY, day, day)).willReturn(List.of(row));
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get(REPORT_API)
+                .param("granularity", "HOUR")
+                .param("dimension", "CATEGORY")
+                .param("from", "2024-05-10")
+                .param("to", "2024-05-10")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isOk() )
+                .andExpect( jsonPath("$", hasSize(1)) )
+                .andExpect( jsonPath("$[0].bucket").value("2024-05-10T12:00:00") )
+                .andExpect( jsonPath("$[0].name").value("Lanches") )
+                .andExpect( jsonPath("$[0].revenue").value(125.5) );
+    }
+
+    @Test
+    @DisplayName("Deve responder 400 para uma granularidade desconhecida.")
+    public void invalidGranularityTest() throws Exception{
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .get(REPORT_API)
+                .param("granularity", "WEEK")
+                .param("from", "2024-05-10")
+                .param("to", "2024-05-10")
+                .accept(MediaType.APPLICATION_JSON);
+
+        mvc
+                .perform( request )
+                .andExpect( status().isBadRequest() );
+    }
+
+    @Test
+    @DisplayName("Deve recalcular os agregados de vendas do período.")
+    public void reconcileTest() throws Exception{
+
+        LocalDate from = LocalDate.of(2024, 5, 1);
+        LocalDate to = LocalDate.of(2024, 5, 10);
+
+        MockHttpServletRequestBuilder request = MockMvcRequestBuilders
+                .post(REPORT_API.concat("/reconcile"))
+                .param("from", "2024-05-01")
+                .param("to", "2024-05-10");
+
+        mvc
+                .perform( request )
+                .andExpect( status().isNoContent() );
+
+        Mockito.verify(service).reconcile(from, to);
+    }
+}
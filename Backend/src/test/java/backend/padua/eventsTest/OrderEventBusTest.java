@@ -0,0 +1,125 @@
+package backend.padua.eventsTest;
+
+import backend.padua.data.dto.OrderDTO;
+import backend.padua.events.OrderEventBus;
+import backend.padua.events.OrderPlacedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrderEventBusTest {
+
+    final ExecutorService senders = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void shutdown() {
+        senders.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Deve entregar os novos pedidos a todos os inscritos.")
+    public void shouldDeliverOrdersToSubscribersTest() throws Exception {
+
+        OrderEventBus bus = new OrderEventBus(senders, 8, 1000L);
+
+        RecordingEmitter first = new RecordingEmitter(2, null);
+        RecordingEmitter second = new RecordingEmitter(2, null);
+
+        bus.subscribe(first);
+        bus.subscribe(second);
+
+        bus.onOrderPlaced(new OrderPlacedEvent(OrderDTO.builder().id(1L).build()));
+        bus.onOrderPlaced(new OrderPlacedEvent(OrderDTO.builder().id(2L).build()));
+
+        assertThat( first.delivered.await(5, TimeUnit.SECONDS) ).isTrue();
+        assertThat( second.delivered.await(5, TimeUnit.SECONDS) ).isTrue();
+        assertThat( first.events ).hasSize(2);
+        assertThat( bus.publishedCount() ).isEqualTo(2);
+        assertThat( bus.droppedCount() ).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve desconectar um inscrito lento sem bloquear a publicação dos pedidos.")
+    public void shouldDropSlowSubscriberTest() throws Exception {
+
+        OrderEventBus bus = new OrderEventBus(senders, 1, 1000L);
+
+        CountDownLatch release = new CountDownLatch(1);
+
+        RecordingEmitter slow = new RecordingEmitter(1, release);
+        RecordingEmitter fast = new RecordingEmitter(3, null);
+
+        bus.subscribe(slow);
+        bus.subscribe(fast);
+
+        for (long id = 1; id <= 3; id++) {
+            bus.publish(OrderDTO.builder().id(id).build());
+            assertThat( fast.sent.await(5, TimeUnit.SECONDS) ).isTrue();
+            fast.sent = new CountDownLatch(1);
+        }
+
+        release.countDown();
+
+        assertThat( fast.delivered.await(5, TimeUnit.SECONDS) ).isTrue();
+        assertThat( bus.droppedCount() ).isEqualTo(1);
+        assertThat( bus.subscriberCount() ).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve encerrar os inscritos e ignorar publicações após o desligamento.")
+    public void shouldCompleteSubscribersOnCloseTest() throws Exception {
+
+        OrderEventBus bus = new OrderEventBus(senders, 8, 1000L);
+
+        RecordingEmitter subscriber = new RecordingEmitter(1, null);
+
+        bus.subscribe(subscriber);
+
+        bus.close();
+
+        bus.publish(OrderDTO.builder().id(1L).build());
+
+        assertThat( bus.subscriberCount() ).isZero();
+        assertThat( subscriber.events ).isEmpty();
+    }
+
+    static class RecordingEmitter extends SseEmitter {
+
+        final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+
+        final CountDownLatch delivered;
+
+        final CountDownLatch release;
+
+        volatile CountDownLatch sent = new CountDownLatch(1);
+
+        RecordingEmitter(int expected, CountDownLatch release) {
+            this.delivered = new CountDownLatch(expected);
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                if(release != null) release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+
+            events.add(builder);
+            sent.countDown();
+            delivered.countDown();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package backend.padua.eventsTest;
+
+import backend.padua.data.dto.OrderDTO;
+import backend.padua.data.projections.OrderLineRow;
+import backend.padua.events.OrderCancelledEvent;
+import backend.padua.events.OrderLine;
+import backend.padua.events.OrderPlacedEvent;
+import backend.padua.events.SalesAggregator;
+import backend.padua.model.SalesAggregate;
+import backend.padua.model.SalesDimension;
+import backend.padua.model.SalesGranularity;
+import backend.padua.repositories.OrderRepository;
+import backend.padua.repositories.SalesAggregateRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+public class SalesAggregatorTest {
+
+    static final LocalDateTime PLACED_AT = LocalDateTime.of(2024, 5, 10, 12, 34);
+
+    @Test
+    @DisplayName("Deve somar os pedidos de um lote em um único incremento por produto, categoria e período.")
+    public void shouldCoalesceIncrementsTest() throws Exception {
+
+        SalesAggregateRepository repository = Mockito.mock(SalesAggregateRepository.class);
+        OrderRepository orders = Mockito.mock(OrderRepository.class);
+        SalesAggregator aggregator = new SalesAggregator(repository, orders, TransactionOperations.withoutTransaction(), 2);
+
+        when(repository.increment(any(), any(), any(), anyLong(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(1);
+
+        CountDownLatch release = blockWriter(aggregator, orders);
+
+        aggregator.onOrderPlaced(event(new OrderLine(1L, "Lanche", 10L, "Lanches", 2, 6000L),
+                new OrderLine(2L, "X-Bacon", 10L, "Lanches", 1, 3500L)));
+        aggregator.onOrderPlaced(event(new OrderLine(1L, "Lanche", 10L, "Lanches", 1, 3000L)));
+
+        release.countDown();
+        aggregator.close();
+
+        Mockito.verify(repository).increment(SalesGranularity.HOUR, SalesDimension.PRODUCT,
+                PLACED_AT.withMinute(0), 1L, "Lanche", 3L, 9000L, 2L);
+        Mockito.verify(repository).increment(SalesGranularity.DAY, SalesDimension.PRODUCT,
+                PLACED_AT.toLocalDate().atStartOfDay(), 2L, "X-Bacon", 1L, 3500L, 1L);
+        Mockito.verify(repository).increment(SalesGranularity.DAY, SalesDimension.CATEGORY,
+                PLACED_AT.toLocalDate().atStartOfDay(), 10L, "Lanches", 4L, 12500L, 2L);
+        Mockito.verify(repository, Mockito.times(6))
+                .increment(any(), any(), any(), anyLong(), anyString(), anyLong(), anyLong(), anyLong());
+        Mockito.verify(repository, Mockito.never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve criar o agregado quando o período ainda não existir.")
+    public void shouldInsertMissingAggregateTest() throws Exception {
+
+        SalesAggregateRepository repository = Mockito.mock(SalesAggregateRepository.class);
+        SalesAggregator aggregator = aggregator(repository);
+
+        when(repository.increment(any(), any(), any(), anyLong(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(0);
+        when(repository.increment(eq(SalesGranularity.DAY), any(), any(), anyLong(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenReturn(1);
+
+        aggregator.onOrderPlaced(event(new OrderLine(1L, "Lanche", 10L, "Lanches", 2, 6000L)));
+        aggregator.close();
+
+        ArgumentCaptor<SalesAggregate> created = ArgumentCaptor.forClass(SalesAggregate.class);
+        Mockito.verify(repository, Mockito.times(2)).save(created.capture());
+
+        assertThat( created.getAllValues() )
+                .allMatch(row -> row.getGranularity() == SalesGranularity.HOUR)
+                .allMatch(row -> row.getBucket().equals(PLACED_AT.withMinute(0)))
+                .allMatch(row -> row.getQuantity() == 2L && row.getRevenueCents() == 6000L && row.getOrders() == 1L)
+                .extracting(SalesAggregate::getDimension)
+                .containsExactlyInAnyOrder(SalesDimension.PRODUCT, SalesDimension.CATEGORY);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar eventos sem itens.")
+    public void shouldIgnoreEventsWithoutLinesTest() throws Exception {
+
+        SalesAggregateRepository repository = Mockito.mock(SalesAggregateRepository.class);
+        SalesAggregator aggregator = aggregator(repository);
+
+        aggregator.onOrderPlaced(new OrderPlacedEvent(OrderDTO.builder().id(1L).build()));
+        aggregator.close();
+
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve descontar os pedidos cancelados sem criar agregados inexistentes.")
+    public void shouldSubtractCancelledOrderTest() throws Exception {
+
+        SalesAggregateRepository repository = Mockito.mock(SalesAggregateRepository.class);
+        SalesAggregator aggregator = aggregator(repository);
+
+        aggregator.onOrderCancelled(new OrderCancelledEvent(1L, placedAt(),
+                List.of(new OrderLine(1L, "Lanche", 10L, "Lanches", 2, 6000L))));
+        aggregator.close();
+
+        Mockito.verify(repository).increment(SalesGranularity.DAY, SalesDimension.PRODUCT,
+                PLACED_AT.toLocalDate().atStartOfDay(), 1L, "Lanche", -2L, -6000L, -1L);
+        Mockito.verify(repository, Mockito.never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve tentar novamente o lote quando a gravação falhar.")
+    public void shouldRetryFailedBatchTest() throws Exception {
+
+        SalesAggregateRepository repository = Mockito.mock(SalesAggregateRepository.class);
+        SalesAggregator aggregator = aggregator(repository);
+
+        when(repository.increment(any(), any(), any(), anyLong(), anyString(), anyLong(), anyLong(), anyLong()))
+                .thenThrow(new IllegalStateException("database down"))
+                .thenReturn(1);
+
+        aggregator.onOrderPlaced(event(new OrderLine(1L, "Lanche", 10L, "Lanches", 1, 3000L)));
+
+        Mockito.verify(repository, Mockito.timeout(5000)).increment(SalesGranularity.DAY, SalesDimension.CATEGORY,
+                PLACED_AT.toLocalDate().atStartOfDay(), 10L, "Lanches", 1L, 3000L, 1L);
+
+        aggregator.close();
+    }
+
+    @Test
+    @DisplayName("Deve recalcular os agregados do período a partir dos pedidos.")
+    public void shouldReconcileFromOrdersTest() throws Exception {
+
+        SalesAggregateRepository repository = Mockito.mock(SalesAggregateRepository.class);
+        OrderRepository orders = Mockito.mock(OrderRepository.class);
+        SalesAggregator aggregator = new SalesAggregator(repository, orders, TransactionOperations.withoutTransaction(), 2);
+
+        when(orders.findLinesBetween(any(), any())).thenReturn(List.of(
+                new OrderLineRow(1L, placedAt(), 1L, "Lanche", 10L, "Lanches", 2, 6000L),
+                new OrderLineRow(2L, placedAt(), 1L, "Lanche", 10L, "Lanches", 1, 3000L)));
+
+        int written = aggregator.reconcile(PLACED_AT.toLocalDate(), PLACED_AT.toLocalDate());
+        aggregator.close();
+
+        ArgumentCaptor<SalesAggregate> created = ArgumentCaptor.forClass(SalesAggregate.class);
+
+        Mockito.verify(repository).deleteBuckets(PLACED_AT.toLocalDate().atStartOfDay(),
+                PLACED_AT.toLocalDate().plusDays(1).atStartOfDay());
+        Mockito.verify(repository, Mockito.times(4)).save(created.capture());
+
+        assertThat( written ).isEqualTo(4);
+        assertThat( created.getAllValues() )
+                .allMatch(row -> row.getQuantity() == 3L && row.getRevenueCents() == 9000L && row.getOrders() == 2L);
+    }
+
+    private SalesAggregator aggregator(SalesAggregateRepository repository) {
+        return new SalesAggregator(repository, Mockito.mock(OrderRepository.class),
+                TransactionOperations.withoutTransaction(), 2);
+    }
+
+    private CountDownLatch blockWriter(SalesAggregator aggregator, OrderRepository orders) throws InterruptedException {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        when(orders.findLinesBetween(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        aggregator.onReady();
+
+        assertThat( started.await(5, TimeUnit.SECONDS) ).isTrue();
+
+        return release;
+    }
+
+    private Date placedAt() {
+        return Date.from(PLACED_AT.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private OrderPlacedEvent event(OrderLine... lines) {
+        return new OrderPlacedEvent(OrderDTO.builder().id(1L).build(), placedAt(), List.of(lines));
+    }
+}
@@ -0,0 +1,192 @@
+package backend.padua.journalTest;
+
+import backend.padua.journal.ClientUpdate;
+import backend.padua.journal.ClientUpdateState;
+import backend.padua.journal.ClientWriteBehind;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+public class ClientWriteBehindTest {
+
+    static final long FLUSH_MILLIS = 60_000L;
+
+    static final String UPDATE_SQL = "update client set name = ?, email = ? where id = ?";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve juntar as alterações do mesmo cliente em um único UPDATE em lote.")
+    @SuppressWarnings("unchecked")
+    public void shouldCoalesceUpdatesTest() throws Exception {
+
+        JdbcTemplate jdbc = Mockito.mock(JdbcTemplate.class);
+        when(jdbc.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1}});
+
+        ClientWriteBehind writeBehind = newWriteBehind(jdbc);
+
+        writeBehind.submit(1L, "Cliente", "cliente@email.com");
+        writeBehind.submit(1L, "Cliente Um", "cliente@email.com");
+        writeBehind.submit(2L, "Outro", "outro@email.com");
+        writeBehind.submit(1L, "Cliente Final", "final@email.com");
+
+        int flushed = writeBehind.flush();
+
+        ArgumentCaptor<Collection<ClientUpdate>> batch = ArgumentCaptor.forClass(Collection.class);
+        Mockito.verify(jdbc, Mockito.times(1)).batchUpdate(anyString(), batch.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+
+        assertThat( flushed ).isEqualTo(2);
+        assertThat( batch.getValue() )
+                .extracting(ClientUpdate::name)
+                .containsExactlyInAnyOrder("Cliente Final", "Outro");
+        assertThat( writeBehind.pending(1L) ).isEmpty();
+        assertThat( segments() ).hasSize(1);
+
+        writeBehind.close();
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar as alterações do journal ao reiniciar.")
+    public void shouldReplayJournalTest() throws Exception {
+
+        JdbcTemplate jdbc = Mockito.mock(JdbcTemplate.class);
+        when(jdbc.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new CannotGetJdbcConnectionException("down"));
+
+        ClientWriteBehind crashed = newWriteBehind(jdbc);
+        crashed.submit(1L, "Cliente", "cliente@email.com");
+        crashed.submit(1L, "Cliente Novo", "novo@email.com");
+
+        JdbcTemplate recovered = Mockito.mock(JdbcTemplate.class);
+        when(recovered.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 1}});
+
+        ClientWriteBehind restarted = newWriteBehind(recovered);
+
+        assertThat( restarted.pending(1L) ).hasValueSatisfying(update -> {
+            assertThat( update.name() ).isEqualTo("Cliente Novo");
+            assertThat( update.seq() ).isEqualTo(2L);
+        });
+        assertThat( restarted.submit(2L, "Outro", "outro@email.com").seq() ).isEqualTo(3L);
+        assertThat( restarted.flush() ).isEqualTo(2);
+        assertThat( segments() ).hasSize(1);
+
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("Deve manter as alterações pendentes quando o banco estiver indisponível.")
+    public void shouldKeepPendingUpdatesWhenDatabaseFailsTest() throws Exception {
+
+        JdbcTemplate jdbc = Mockito.mock(JdbcTemplate.class);
+        when(jdbc.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new CannotGetJdbcConnectionException("down"))
+                .thenReturn(new int[][]{{1}});
+
+        ClientWriteBehind writeBehind = newWriteBehind(jdbc);
+        writeBehind.submit(1L, "Cliente", "cliente@email.com");
+
+        Throwable exception = catchThrowable(writeBehind::flush);
+
+        assertThat( exception ).isInstanceOf(CannotGetJdbcConnectionException.class);
+        assertThat( writeBehind.pending(1L) ).isPresent();
+        assertThat( segments() ).hasSize(2);
+
+        assertThat( writeBehind.flush() ).isEqualTo(1);
+        assertThat( writeBehind.appliedCount() ).isEqualTo(1);
+        assertThat( segments() ).hasSize(1);
+
+        writeBehind.close();
+    }
+
+    @Test
+    @DisplayName("Deve registrar como rejeitada a alteração de cliente que não existe mais.")
+    public void shouldRejectUpdateOfMissingClientTest() throws Exception {
+
+        JdbcTemplate jdbc = Mockito.mock(JdbcTemplate.class);
+        when(jdbc.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{0}});
+
+        ClientWriteBehind writeBehind = newWriteBehind(jdbc);
+        writeBehind.submit(1L, "Cliente", "cliente@email.com");
+
+        assertThat( writeBehind.status(1L) ).hasValueSatisfying(status ->
+                assertThat( status.state() ).isEqualTo(ClientUpdateState.PENDING));
+
+        writeBehind.flush();
+
+        assertThat( writeBehind.pending(1L) ).isEmpty();
+        assertThat( writeBehind.rejectedCount() ).isEqualTo(1);
+        assertThat( writeBehind.appliedCount() ).isZero();
+        assertThat( writeBehind.status(1L) ).hasValueSatisfying(status -> {
+            assertThat( status.state() ).isEqualTo(ClientUpdateState.REJECTED);
+            assertThat( status.reason() ).isEqualTo("Cliente não encontrado.");
+        });
+
+        writeBehind.close();
+    }
+
+    @Test
+    @DisplayName("Deve registrar como rejeitada a alteração com email já cadastrado.")
+    public void shouldRejectDuplicatedEmailTest() throws Exception {
+
+        JdbcTemplate jdbc = Mockito.mock(JdbcTemplate.class);
+        when(jdbc.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(jdbc.update(ClientWriteBehindTest.UPDATE_SQL, "Cliente", "outro@email.com", 1L))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+        when(jdbc.update(ClientWriteBehindTest.UPDATE_SQL, "Outro", "novo@email.com", 2L)).thenReturn(1);
+
+        ClientWriteBehind writeBehind = newWriteBehind(jdbc);
+        writeBehind.submit(1L, "Cliente", "outro@email.com");
+        writeBehind.submit(2L, "Outro", "novo@email.com");
+
+        assertThat( writeBehind.emailPending("OUTRO@email.com", 2L) ).isTrue();
+        assertThat( writeBehind.emailPending("outro@email.com", 1L) ).isFalse();
+
+        writeBehind.flush();
+
+        assertThat( writeBehind.status(1L) ).hasValueSatisfying(status -> {
+            assertThat( status.state() ).isEqualTo(ClientUpdateState.REJECTED);
+            assertThat( status.reason() ).isEqualTo("Email já cadastrado.");
+        });
+        assertThat( writeBehind.status(2L) ).hasValueSatisfying(status ->
+                assertThat( status.state() ).isEqualTo(ClientUpdateState.APPLIED));
+
+        writeBehind.close();
+    }
+
+    private ClientWriteBehind newWriteBehind(JdbcTemplate jdbc) throws Exception {
+        return new ClientWriteBehind(jdbc, new ObjectMapper(), directory.toString(), FLUSH_MILLIS);
+    }
+
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package backend.padua.journalTest;
+
+import backend.padua.data.dto.NewOrderDTO;
+import backend.padua.data.dto.OrderItemDTO;
+import backend.padua.exceptions.ResourceNotFoundException;
+import backend.padua.journal.OrderJournal;
+import backend.padua.journal.OrderJournalApplier;
+import backend.padua.services.OrdersService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+public class OrderJournalApplierTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve aplicar no banco apenas os pedidos posteriores ao último já gravado.")
+    public void shouldApplyPendingEntriesTest() throws Exception {
+
+        OrdersService service = Mockito.mock(OrdersService.class);
+
+        try (OrderJournal journal = new OrderJournal(directory, 64 * 1024, new ObjectMapper())) {
+            journal.append(order(1L));
+            journal.append(order(2L));
+            journal.append(order(3L));
+
+            when(service.lastAppliedReceipt()).thenReturn(1L);
+
+            OrderJournalApplier applier = new OrderJournalApplier(journal, service);
+
+            assertThat( applier.drain() ).isEqualTo(2);
+            assertThat( applier.appliedCount() ).isEqualTo(2);
+
+            Mockito.verify(service, Mockito.never()).apply(eq(1L), any(), any());
+            Mockito.verify(service).apply(eq(2L), any(), Mockito.argThat(order -> order.getClientId() == 2L));
+            Mockito.verify(service).apply(eq(3L), any(), Mockito.argThat(order -> order.getClientId() == 3L));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar pedidos inválidos e repetir quando o banco falhar.")
+    public void shouldRejectInvalidAndRetryTransientFailuresTest() throws Exception {
+
+        OrdersService service = Mockito.mock(OrdersService.class);
+
+        try (OrderJournal journal = new OrderJournal(directory, 64 * 1024, new ObjectMapper())) {
+            journal.append(order(1L));
+            journal.append(order(2L));
+
+            when(service.apply(eq(1L), any(), any())).thenThrow(new ResourceNotFoundException("No records found for this client!"));
+            when(service.apply(eq(2L), any(), any()))
+                    .thenThrow(new QueryTimeoutException("timeout"))
+                    .thenReturn(null);
+
+            OrderJournalApplier applier = new OrderJournalApplier(journal, service);
+
+            assertThat( applier.drain() ).isEqualTo(2);
+            assertThat( applier.rejectedCount() ).isEqualTo(1);
+            assertThat( applier.appliedCount() ).isEqualTo(1);
+
+            Mockito.verify(service, Mockito.times(2)).apply(eq(2L), any(), any());
+            Mockito.verify(service).reject(1L, "No records found for this client!");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve registrar como rejeitado um pedido com erro inesperado sem bloquear os seguintes.")
+    public void shouldDeadLetterUnexpectedFailuresTest() throws Exception {
+
+        OrdersService service = Mockito.mock(OrdersService.class);
+
+        try (OrderJournal journal = new OrderJournal(directory, 64 * 1024, new ObjectMapper())) {
+            journal.append(order(1L));
+            journal.append(order(2L));
+
+            when(service.apply(eq(1L), any(), any())).thenThrow(new ArithmeticException("Overflow"));
+
+            OrderJournalApplier applier = new OrderJournalApplier(journal, service);
+
+            assertThat( applier.drain() ).isEqualTo(2);
+            assertThat( applier.rejectedCount() ).isEqualTo(1);
+            assertThat( applier.appliedCount() ).isEqualTo(1);
+
+            Mockito.verify(service, Mockito.times(1)).apply(eq(1L), any(), any());
+            Mockito.verify(service).reject(1L, "Pedido rejeitado ao ser processado.");
+            Mockito.verify(service).apply(eq(2L), any(), any());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve repetir o pedido enquanto o banco estiver indisponível.")
+    public void shouldRetryWhileDatabaseIsDownTest() throws Exception {
+
+        OrdersService service = Mockito.mock(OrdersService.class);
+
+        try (OrderJournal journal = new OrderJournal(directory, 64 * 1024, new ObjectMapper())) {
+            journal.append(order(1L));
+
+            when(service.apply(eq(1L), any(), any()))
+                    .thenThrow(new CannotGetJdbcConnectionException("down"))
+                    .thenThrow(new CannotCreateTransactionException("down"))
+                    .thenReturn(null);
+
+            OrderJournalApplier applier = new OrderJournalApplier(journal, service);
+
+            assertThat( applier.drain() ).isEqualTo(1);
+            assertThat( applier.appliedCount() ).isEqualTo(1);
+            assertThat( applier.rejectedCount() ).isZero();
+
+            Mockito.verify(service, Mockito.times(3)).apply(eq(1L), any(), any());
+            Mockito.verify(service, Mockito.never()).reject(Mockito.anyLong(), Mockito.anyString());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve continuar aplicando o journal quando o registro da rejeição falhar.")
+    public void shouldKeepRunningWhenRejectFailsTest() throws Exception {
+
+        OrdersService service = Mockito.mock(OrdersService.class);
+
+        try (OrderJournal journal = new OrderJournal(directory, 64 * 1024, new ObjectMapper())) {
+            journal.append(order(1L));
+            journal.append(order(2L));
+
+            when(service.lastAppliedReceipt()).thenReturn(0L);
+            when(service.apply(eq(1L), any(), any())).thenThrow(new ResourceNotFoundException("No records found for this client!"));
+            Mockito.doThrow(new DataIntegrityViolationException("duplicate"))
+                    .doNothing()
+                    .when(service).reject(1L, "No records found for this client!");
+
+            OrderJournalApplier applier = new OrderJournalApplier(journal, service);
+            applier.start();
+
+            long deadline = System.currentTimeMillis() + 5_000L;
+
+            while (applier.appliedCount() < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20L);
+            }
+
+            applier.stop();
+
+            assertThat( applier.appliedCount() ).isEqualTo(1);
+            assertThat( applier.rejectedCount() ).isEqualTo(1);
+
+            Mockito.verify(service, Mockito.times(2)).reject(1L, "No records found for this client!");
+            Mockito.verify(service).apply(eq(2L), any(), any());
+        }
+    }
+
+    private static NewOrderDTO order(Long clientId) {
+        return NewOrderDTO.builder()
+                .clientId(clientId)
+                .addressId(1L)
+                .itens(List.of(OrderItemDTO.builder().productId(1L).quantity(1).build()))
+                .build();
+    }
+}
@@ -0,0 +1,219 @@
+package backend.padua.journalTest;
+
+import backend.padua.data.dto.NewOrderDTO;
+import backend.padua.data.dto.OrderItemDTO;
+import backend.padua.journal.OrderJournal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OrderJournalTest {
+
+    static final int SEGMENT_BYTES = 64 * 1024;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Deve ler os pedidos gravados na ordem em que foram aceitos.")
+    public void shouldReadEntriesInOrderTest() throws Exception {
+
+        try (OrderJournal journal = newJournal(SEGMENT_BYTES)) {
+
+            assertThat( journal.append(order(1L)) ).isEqualTo(1L);
+            assertThat( journal.append(order(2L)) ).isEqualTo(2L);
+            assertThat( journal.durableSeq() ).isEqualTo(2L);
+
+            OrderJournal.Cursor cursor = journal.cursor(0L);
+
+            OrderJournal.Entry first = cursor.next();
+            OrderJournal.Entry second = cursor.next();
+
+            assertThat( first.seq() ).isEqualTo(1L);
+            assertThat( first.order().getClientId() ).isEqualTo(1L);
+            assertThat( first.acceptedAt() ).isNotNull();
+            assertThat( second.order().getClientId() ).isEqualTo(2L);
+            assertThat( cursor.next() ).isNull();
+
+            journal.append(order(3L));
+
+            assertThat( cursor.next().seq() ).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve abrir novos segmentos e apagar os já aplicados.")
+    public void shouldRotateAndReleaseSegmentsTest() throws Exception {
+
+        try (OrderJournal journal = newJournal(512)) {
+
+            for (long i = 1; i <= 20; i++) {
+                journal.append(order(i));
+            }
+
+            int segments = journal.segmentCount();
+
+            assertThat( segments ).isGreaterThan(2);
+            assertThat( files() ).hasSize(segments);
+
+            OrderJournal.Cursor cursor = journal.cursor(0L);
+            List<Long> seqs = new ArrayList<>();
+
+            for (OrderJournal.Entry entry = cursor.next(); entry != null; entry = cursor.next()) {
+                seqs.add(entry.seq());
+            }
+
+            assertThat( seqs ).hasSize(20).isSorted();
+
+            journal.release(20L);
+
+            assertThat( journal.segmentCount() ).isEqualTo(1);
+            assertThat( files() ).hasSize(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve recuperar os pedidos gravados e ignorar um registro incompleto ao reiniciar.")
+    public void shouldRecoverAfterRestartTest() throws Exception {
+
+        try (OrderJournal journal = newJournal(SEGMENT_BYTES)) {
+            journal.append(order(1L));
+            journal.append(order(2L));
+            journal.append(order(3L));
+        }
+
+        Path segment = files().get(0);
+
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(lastWrittenByte(segment) - 1);
+            file.write('#');
+        }
+
+        try (OrderJournal journal = newJournal(SEGMENT_BYTES)) {
+
+            OrderJournal.Cursor cursor = journal.cursor(0L);
+
+            assertThat( cursor.next().seq() ).isEqualTo(1L);
+            assertThat( cursor.next().seq() ).isEqualTo(2L);
+            assertThat( cursor.next() ).isNull();
+            assertThat( journal.append(order(4L)) ).isEqualTo(3L);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve continuar a sequência após aplicar, liberar e reiniciar sem novos pedidos.")
+    public void shouldKeepSequenceAfterReleaseAndRestartTest() throws Exception {
+
+        try (OrderJournal journal = newJournal(SEGMENT_BYTES)) {
+            journal.append(order(1L));
+            journal.append(order(2L));
+            journal.append(order(3L));
+        }
+
+        try (OrderJournal journal = newJournal(SEGMENT_BYTES)) {
+
+            OrderJournal.Cursor cursor = journal.cursor(0L);
+
+            for (OrderJournal.Entry entry = cursor.next(); entry != null; entry = cursor.next()) {
+                journal.release(entry.seq());
+            }
+
+            assertThat( journal.segmentCount() ).isEqualTo(1);
+        }
+
+        try (OrderJournal journal = newJournal(SEGMENT_BYTES)) {
+            assertThat( journal.durableSeq() ).isEqualTo(3L);
+            assertThat( journal.append(order(4L)) ).isEqualTo(4L);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve continuar a partir da última sequência do banco quando o diretório do journal for apagado.")
+    public void shouldRespectFloorSequenceTest() throws Exception {
+
+        try (OrderJournal journal = new OrderJournal(directory, SEGMENT_BYTES, new ObjectMapper(), 7L)) {
+
+            assertThat( journal.append(order(1L)) ).isEqualTo(8L);
+
+            OrderJournal.Cursor cursor = journal.cursor(7L);
+
+            assertThat( cursor.next().seq() ).isEqualTo(8L);
+            assertThat( cursor.next() ).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar pedidos concorrentes sem repetir ou perder sequências.")
+    public void shouldAppendConcurrentlyTest() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try (OrderJournal journal = newJournal(4096)) {
+
+            List<Future<Long>> seqs = new ArrayList<>();
+
+            for (int i = 0; i < 400; i++) {
+                long client = i;
+                seqs.add(executor.submit(() -> journal.append(order(client))));
+            }
+
+            List<Long> appended = new ArrayList<>();
+            for (Future<Long> seq : seqs) {
+                appended.add(seq.get());
+            }
+
+            OrderJournal.Cursor cursor = journal.cursor(0L);
+            List<Long> read = new ArrayList<>();
+
+            for (OrderJournal.Entry entry = cursor.next(); entry != null; entry = cursor.next()) {
+                read.add(entry.seq());
+            }
+
+            assertThat( appended ).doesNotHaveDuplicates().hasSize(400);
+            assertThat( read ).hasSize(400).isSorted();
+            assertThat( journal.durableSeq() ).isEqualTo(400L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private OrderJournal newJournal(int segmentBytes) throws Exception {
+        return new OrderJournal(directory, segmentBytes, new ObjectMapper());
+    }
+
+    private List<Path> files() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    private static long lastWrittenByte(Path segment) throws Exception {
+        byte[] bytes = Files.readAllBytes(segment);
+        int last = bytes.length - 1;
+        while (last > 0 && bytes[last] == 0) {
+            last--;
+        }
+        return last;
+    }
+
+    private static NewOrderDTO order(Long clientId) {
+        return NewOrderDTO.builder()
+                .clientId(clientId)
+                .addressId(1L)
+                .itens(List.of(OrderItemDTO.builder().productId(1L).quantity(1).build()))
+                .build();
+    }
+}
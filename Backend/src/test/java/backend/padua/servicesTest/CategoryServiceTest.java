@@ -1,7 +1,9 @@
 package backend.padua.servicesTest;
 
 import backend.padua.data.dto.CategoryDTO;
+import backend.padua.data.projections.CategoryView;
 import backend.padua.exceptions.BusinessException;
+import backend.padua.exceptions.ResourceNotFoundException;
 import backend.padua.model.Category;
 import backend.padua.repositories.CategoryRepository;
 import backend.padua.services.CategoryService;
@@ -9,10 +11,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.Mockito;
-import org.mockito.Spy;
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -33,12 +35,9 @@ public class CategoryServiceTest {
     @MockBean
     CategoryRepository repository;
 
-    @Spy
-    ModelMapper modelMapper;
-
     @BeforeEach
     public void setUp(){
-        this.service = new CategoryService(repository, modelMapper);
+        this.service = new CategoryService(repository);
     }
 
     @Test
@@ -54,7 +53,7 @@ public class CategoryServiceTest {
 
         dto.setId(1L);
 
-        when(repository.save(entity)).thenReturn(persisted);
+        when(repository.saveAndFlush(entity)).thenReturn(persisted);
 
         CategoryDTO result = service.create(dto);
 
@@ -66,6 +65,34 @@ public class CategoryServiceTest {
         assertThat( result.toString().contains("links: [</api/categories/1>;rel=\"self\"]") ).isTrue();
     }
 
+    @Test
+    @DisplayName("Deve buscar a categoria pelo nome usando a consulta em cache.")
+    public void findEntityByNameTest() {
+
+        Category reference = Category.builder().id(1L).name("Category").build();
+
+        when(repository.findByName("Category")).thenReturn(Optional.of(reference));
+
+        Category result = service.findEntityByName("Category");
+
+        assertThat( result ).isSameAs(reference);
+
+        Mockito.verify(repository, Mockito.times(1)).findByName("Category");
+        Mockito.verify(repository, Mockito.never()).getReferenceById(Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro ao buscar categoria inexistente pelo nome.")
+    public void findEntityByUnknownNameTest() {
+
+        when(repository.findByName("Category")).thenReturn(Optional.empty());
+
+        Throwable exception = catchThrowable(() -> service.findEntityByName("Category"));
+
+        assertThat( exception ).isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("No records found for this name!");
+    }
+
     @Test
     @DisplayName("Deve lançar erro de negócio ao tentar salvar livro duplicado")
     public void shouldNotSaveCategoryWithDuplicateName() {
@@ -74,7 +101,8 @@ public class CategoryServiceTest {
 
         Category entity = Category.builder().name("Category").build();
 
-        when( repository.existsByName(Mockito.anyString()) ).thenReturn(true);
+        when( repository.saveAndFlush(Mockito.any(Category.class)) ).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", null, Category.UNIQUE_NAME)));
 
         Throwable exception = catchThrowable(() ->
             service.create(dto));
@@ -83,7 +111,7 @@ public class CategoryServiceTest {
                 .isInstanceOf(BusinessException.class)
                 .hasMessage("Nome já cadastrado.");
 
-        Mockito.verify(repository, Mockito.never()).save(entity);
+        Mockito.verify(repository, Mockito.never()).findByName(Mockito.anyString());
     }
 
     @Test
@@ -113,17 +141,17 @@ public class CategoryServiceTest {
         dtoCategories.add(dtoCategory2);
         dtoCategories.add(dtoCategory3);
 
-        Category category1 = Category.builder().id(1L).name("Category1").build();
-        Category category2 = Category.builder().id(2L).name("Category2").build();
-        Category category3 = Category.builder().id(3L).name("Category3").build();
+        CategoryView category1 = new CategoryView(1L, "Category1");
+        CategoryView category2 = new CategoryView(2L, "Category2");
+        CategoryView category3 = new CategoryView(3L, "Category3");
 
-        List<Category> categories = new ArrayList<>();
+        List<CategoryView> categories = new ArrayList<>();
 
         categories.add(category1);
         categories.add(category2);
         categories.add(category3);
 
-        when(repository.findAll()).thenReturn(categories);
+        when(repository.findAllViews()).thenReturn(categories);
 
         List<CategoryDTO> foundCategories = service.findAll();
 
@@ -153,6 +181,41 @@ public class CategoryServiceTest {
         assertThat( cat3.toString().contains("links: [</api/categories/3>;rel=\"self\"]") ).isTrue();
     }
 
+    @Test
+    @DisplayName("Deve servir a lista de categorias do snapshot em memória até uma alteração.")
+    public void findAllFromSnapshotTest(){
+
+        Category entity = Category.builder().id(1L).name("Category").build();
+
+        when(repository.findAllViews()).thenReturn(
+                List.of(new CategoryView(1L, "Category")),
+                List.of(new CategoryView(1L, "newCategory")));
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+        when(repository.saveAndFlush(entity)).thenReturn(entity);
+
+        List<CategoryDTO> first = service.findAll();
+        List<CategoryDTO> second = service.findAll();
+
+        Throwable exception = catchThrowable(() -> first.get(0).setName("changed"));
+
+        assertThat( exception ).isInstanceOf(UnsupportedOperationException.class);
+        assertThat( second ).isSameAs(first);
+        assertThat( service.findById(1L) ).isSameAs(first.get(0));
+        assertThat( second.get(0).getName() ).isEqualTo("Category");
+        assertThat( second.get(0).toString().contains("links: [</api/categories/1>;rel=\"self\"]") ).isTrue();
+        Mockito.verify(repository, Mockito.times(1)).findAllViews();
+
+        service.update(CategoryDTO.builder().id(1L).name("newCategory").build());
+
+        List<CategoryDTO> rebuilt = service.findAll();
+
+        assertThat( rebuilt ).isNotSameAs(first);
+        assertThat( rebuilt.get(0).getName() ).isEqualTo("newCategory");
+        assertThat( service.cacheStats().getHits() ).isEqualTo(3);
+        assertThat( service.cacheStats().getMisses() ).isEqualTo(1);
+        assertThat( service.cacheStats().getRebuilds() ).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("Deve lançar erro ao buscar uma lista de categorias vazia.")
     public void emptyCategoriesFindAllTest() {
@@ -248,7 +311,7 @@ public class CategoryServiceTest {
         dto.setId(id);
 
         when(repository.findById(id)).thenReturn(Optional.of(entity));
-        when(repository.save(entity)).thenReturn(persisted);
+        when(repository.saveAndFlush(entity)).thenReturn(persisted);
 
         CategoryDTO result = service.update(dto);
 
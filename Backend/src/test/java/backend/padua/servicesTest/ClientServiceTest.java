@@ -1,7 +1,16 @@
 package backend.padua.servicesTest;
 
 import backend.padua.data.dto.ClientDTO;
+import backend.padua.data.dto.ClientUpdateStatusDTO;
+import backend.padua.data.dto.CursorPageDTO;
 import backend.padua.data.dto.NewClientDTO;
+import backend.padua.data.projections.ClientView;
+import backend.padua.exceptions.BusinessException;
+import backend.padua.exceptions.ResourceNotFoundException;
+import backend.padua.journal.ClientUpdate;
+import backend.padua.journal.ClientUpdateState;
+import backend.padua.journal.ClientUpdateStatus;
+import backend.padua.journal.ClientWriteBehind;
 import backend.padua.model.Address;
 import backend.padua.model.Client;
 import backend.padua.repositories.ClientRepository;
@@ -11,8 +20,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
-import org.mockito.Spy;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -32,12 +40,9 @@ public class ClientServiceTest {
     @MockBean
     ClientRepository repository;
 
-    @Spy
-    ModelMapper modelMapper;
-
     @BeforeEach
     public void setUp(){
-        this.service = new ClientService(repository, modelMapper);
+        this.service = new ClientService(repository);
     }
 
     @Test
@@ -139,6 +144,109 @@ public class ClientServiceTest {
         assertThat( result.toString().contains("links: [</api/clients/1>;rel=\"self\"]") ).isTrue();
     }
 
+    @Test
+    @DisplayName("Deve confirmar a atualização pelo journal sem acessar o banco no modo write-behind.")
+    public void shouldUpdateClientBehindTest(){
+
+        ClientWriteBehind writeBehind = Mockito.mock(ClientWriteBehind.class);
+        ClientService behind = new ClientService(repository, Optional.of(writeBehind));
+
+        when(writeBehind.submit(1L, "NewClient", "xx@xx.com"))
+                .thenReturn(new ClientUpdate(1L, 1L, "NewClient", "xx@xx.com"));
+        when(writeBehind.pending(1L)).thenReturn(Optional.of(new ClientUpdate(1L, 1L, "NewClient", "xx@xx.com")));
+        when(repository.findViewById(1L)).thenReturn(Optional.of(new ClientView(1L, "Client", "x@xx.com")));
+
+        ClientDTO result = behind.update(ClientDTO.builder().id(1L).name("NewClient").email("xx@xx.com").build());
+        ClientDTO read = behind.findById(1L);
+
+        assertThat( result.getName() ).isEqualTo("NewClient");
+        assertThat( result.toString().contains("</api/clients/1>;rel=\"self\"") ).isTrue();
+        assertThat( result.getLink(ClientService.UPDATE_STATUS) ).hasValueSatisfying(link ->
+                assertThat( link.getHref() ).endsWith("/api/clients/1/update-status"));
+        assertThat( read.getName() ).isEqualTo("NewClient");
+        assertThat( read.getEmail() ).isEqualTo("xx@xx.com");
+
+        Mockito.verify(repository, Mockito.never()).existsById(Mockito.anyLong());
+        Mockito.verify(repository, Mockito.never()).findById(Mockito.anyLong());
+        Mockito.verify(repository, Mockito.never()).save(Mockito.any(Client.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro ao atualizar cliente sem id no modo write-behind.")
+    public void shouldNotUpdateClientWithoutIdBehindTest(){
+
+        ClientWriteBehind writeBehind = Mockito.mock(ClientWriteBehind.class);
+        ClientService behind = new ClientService(repository, Optional.of(writeBehind));
+
+        Throwable exception = catchThrowable(() ->
+                behind.update(ClientDTO.builder().name("NewClient").email("xx@xx.com").build()));
+
+        assertThat( exception ).isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("No records found for this id!");
+        Mockito.verify(writeBehind, Mockito.never()).submit(Mockito.anyLong(), Mockito.anyString(), Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro ao atualizar cliente com email já cadastrado no modo write-behind.")
+    public void shouldNotUpdateDuplicatedEmailBehindTest(){
+
+        ClientWriteBehind writeBehind = Mockito.mock(ClientWriteBehind.class);
+        ClientService behind = new ClientService(repository, Optional.of(writeBehind));
+
+        when(writeBehind.emailPending("xx@xx.com", 1L)).thenReturn(true);
+
+        Throwable exception = catchThrowable(() ->
+                behind.update(ClientDTO.builder().id(1L).name("NewClient").email("xx@xx.com").build()));
+
+        assertThat( exception ).isInstanceOf(BusinessException.class)
+                .hasMessage("Email já cadastrado.");
+        Mockito.verify(writeBehind, Mockito.never()).submit(Mockito.anyLong(), Mockito.anyString(), Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar as alterações pendentes na listagem de clientes.")
+    public void shouldOverlayPendingUpdatesOnFindAllTest(){
+
+        ClientWriteBehind writeBehind = Mockito.mock(ClientWriteBehind.class);
+        ClientService behind = new ClientService(repository, Optional.of(writeBehind));
+
+        when(repository.findAllViews()).thenReturn(List.of(new ClientView(1L, "Client1", "x@xx.com"),
+                new ClientView(2L, "Client2", "xx@xx.com")));
+        when(writeBehind.pendingUpdates()).thenReturn(Map.of(2L, new ClientUpdate(5L, 2L, "Novo", "novo@xx.com")));
+
+        List<ClientDTO> result = behind.findAll();
+
+        assertThat( result ).extracting(ClientDTO::getName).containsExactly("Client1", "Novo");
+        assertThat( result ).extracting(ClientDTO::getEmail).containsExactly("x@xx.com", "novo@xx.com");
+    }
+
+    @Test
+    @DisplayName("Deve retornar a rejeição da atualização do cliente.")
+    public void shouldFindRejectedUpdateStatusTest(){
+
+        ClientWriteBehind writeBehind = Mockito.mock(ClientWriteBehind.class);
+        ClientService behind = new ClientService(repository, Optional.of(writeBehind));
+
+        when(writeBehind.status(1L)).thenReturn(Optional.of(
+                new ClientUpdateStatus(3L, 1L, ClientUpdateState.REJECTED, "Email já cadastrado.")));
+
+        ClientUpdateStatusDTO result = behind.findUpdateStatus(1L);
+
+        assertThat( result.getStatus() ).isEqualTo("REJECTED");
+        assertThat( result.getReason() ).isEqualTo("Email já cadastrado.");
+        assertThat( result.getSeq() ).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro ao consultar atualização sem o modo write-behind.")
+    public void shouldNotFindUpdateStatusWithoutWriteBehindTest(){
+
+        Throwable exception = catchThrowable(() -> service.findUpdateStatus(1L));
+
+        assertThat( exception ).isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("No updates found for this id!");
+    }
+
     @Test
     @DisplayName("Deve lançar erro ao tentar atualizar cliente nulo.")
     public void shouldNotUpdateNullClientTest(){
@@ -165,17 +273,17 @@ public class ClientServiceTest {
         dtoClients.add(dtoClient2);
         dtoClients.add(dtoClient3);
 
-        Client client1 = Client.builder().id(1L).email("x@xx.com").name("Client1").build();
-        Client client2 = Client.builder().id(2L).email("xx@xx.com").name("Client2").build();
-        Client client3 = Client.builder().id(3L).email("xxx@xx.com").name("Client3").build();
+        ClientView client1 = new ClientView(1L, "Client1", "x@xx.com");
+        ClientView client2 = new ClientView(2L, "Client2", "xx@xx.com");
+        ClientView client3 = new ClientView(3L, "Client3", "xxx@xx.com");
 
-        List<Client> clients = new ArrayList<>();
+        List<ClientView> clients = new ArrayList<>();
 
         clients.add(client1);
         clients.add(client2);
         clients.add(client3);
 
-        when(repository.findAll()).thenReturn(clients);
+        when(repository.findAllViews()).thenReturn(clients);
 
         List<ClientDTO> foundClients = service.findAll();
 
@@ -208,6 +316,74 @@ public class ClientServiceTest {
         assertThat( cli3.toString().contains("links: [</api/clients/3>;rel=\"self\"]") ).isTrue();
     }
 
+    @Test
+    @DisplayName("Deve retornar os clientes com endereço e telefone em uma única consulta.")
+    public void shouldFindAllDetailedClientsTest(){
+
+        Address ad = Address.builder().id(1L).address("Rua").neighborhood("Bairro").number(10)
+                .complement(null).city("Cidade").state("Estado").cep("000000000").build();
+
+        List<Address> adList = new ArrayList<>();
+        adList.add(ad);
+
+        Set<String> phone = new HashSet<>();
+        phone.add("00123456789");
+
+        Client cli = Client.builder().id(1L).name("Client").email("x@xx.com")
+                .cpf("123456789").addresses(adList).telephones(phone).build();
+
+        when(repository.findAllWithAddresses()).thenReturn(List.of(cli));
+
+        List<NewClientDTO> foundClients = service.findAllDetailed();
+
+        assertThat( foundClients ).hasSize(1);
+        assertThat( foundClients.get(0).getId() ).isEqualTo(1L);
+        assertThat( foundClients.get(0).getAddress() ).isEqualTo(ad.getAddress());
+        assertThat( foundClients.get(0).getCep() ).isEqualTo(ad.getCep());
+        assertThat( foundClients.get(0).getTelephone() ).isEqualTo("00123456789");
+        assertThat( foundClients.get(0).toString().contains("links: [</api/clients/1>;rel=\"self\"]") ).isTrue();
+
+        Mockito.verify(repository, Mockito.never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve paginar os clientes por cursor sem carregar a tabela inteira.")
+    public void shouldFindClientsPageTest(){
+
+        ClientView client1 = new ClientView(11L, "Client11", "x@xx.com");
+        ClientView client2 = new ClientView(12L, "Client12", "xx@xx.com");
+        ClientView client3 = new ClientView(13L, "Client13", "xxx@xx.com");
+
+        when(repository.findViewsAfter(10L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(client1, client2, client3));
+
+        CursorPageDTO<ClientDTO> page = service.findPage(10L, 2);
+
+        assertThat( page.getItems() ).hasSize(2);
+        assertThat( page.getItems().get(0).getId() ).isEqualTo(11L);
+        assertThat( page.getItems().get(1).getId() ).isEqualTo(12L);
+        assertThat( page.getNextCursor() ).isEqualTo(12L);
+        assertThat( page.getLimit() ).isEqualTo(2);
+        assertThat( page.getItems().get(0).toString().contains("links: [</api/clients/11>;rel=\"self\"]") ).isTrue();
+
+        Mockito.verify(repository, Mockito.never()).findAllViews();
+    }
+
+    @Test
+    @DisplayName("Deve encerrar a paginação quando não houver mais clientes.")
+    public void shouldEndClientsPageTest(){
+
+        ClientView client = new ClientView(13L, "Client13", "xxx@xx.com");
+
+        when(repository.findViewsAfter(12L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(client));
+
+        CursorPageDTO<ClientDTO> page = service.findPage(12L, 2);
+
+        assertThat( page.getItems() ).hasSize(1);
+        assertThat( page.getNextCursor() ).isNull();
+    }
+
     @Test
     @DisplayName("Deve lançar erro ao buscar uma lista de clientes vazia.")
     public void emptyClientsFindAllTest() {
@@ -241,7 +417,7 @@ public class ClientServiceTest {
 
         ad.setClient(cli);
 
-        when(repository.findById(id)).thenReturn(Optional.of(cli));
+        when(repository.findViewById(id)).thenReturn(Optional.of(new ClientView(id, cli.getName(), cli.getEmail())));
 
         ClientDTO foundClient = service.findById(id);
 
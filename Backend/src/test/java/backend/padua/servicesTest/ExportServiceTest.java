@@ -0,0 +1,129 @@
+package backend.padua.servicesTest;
+
+import backend.padua.data.projections.ClientExportRow;
+import backend.padua.data.projections.OrderExportRow;
+import backend.padua.exceptions.ServiceUnavailableException;
+import backend.padua.model.OrderStatus;
+import backend.padua.repositories.ClientRepository;
+import backend.padua.repositories.OrderRepository;
+import backend.padua.services.ExportFormat;
+import backend.padua.services.ExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+public class ExportServiceTest {
+
+    ExportService service;
+
+    @MockBean
+    OrderRepository orderRepository;
+
+    @MockBean
+    ClientRepository clientRepository;
+
+    @BeforeEach
+    public void setUp(){
+        this.service = new ExportService(orderRepository, clientRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Deve exportar os clientes em CSV escapando os campos.")
+    public void shouldExportClientsAsCsvTest() throws Exception {
+
+        AtomicBoolean closed = new AtomicBoolean();
+
+        when(clientRepository.streamExport()).thenReturn(Stream.of(
+                new ClientExportRow(1L, "Client", "x@xx.com", "77058753067"),
+                new ClientExportRow(2L, "Silva, \"Zé\"", "xx@xx.com", "77058753067"))
+                .onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.exportClients(ExportFormat.CSV, out);
+
+        assertThat( rows ).isEqualTo(2);
+        assertThat( out.toString(StandardCharsets.UTF_8) ).isEqualTo(
+                "id,name,email,cpf\n" +
+                "1,Client,x@xx.com,77058753067\n" +
+                "2,\"Silva, \"\"Zé\"\"\",xx@xx.com,77058753067\n");
+        assertThat( closed.get() ).isTrue();
+        Mockito.verify(clientRepository, Mockito.never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve neutralizar fórmulas de planilha nos campos do CSV.")
+    public void shouldNeutralizeFormulasInCsvTest() throws Exception {
+
+        when(clientRepository.streamExport()).thenReturn(Stream.of(
+                new ClientExportRow(1L, "=HYPERLINK(\"http://x\")", "@x.com", "-1"),
+                new ClientExportRow(2L, "+Client", "x@xx.com", "77058753067")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.exportClients(ExportFormat.CSV, out);
+
+        assertThat( out.toString(StandardCharsets.UTF_8) ).isEqualTo(
+                "id,name,email,cpf\n" +
+                "1,\"'=HYPERLINK(\"\"http://x\"\")\",'@x.com,'-1\n" +
+                "2,'+Client,x@xx.com,77058753067\n");
+    }
+
+    @Test
+    @DisplayName("Deve recusar novas exportações quando o limite de exportações simultâneas for atingido.")
+    public void shouldLimitConcurrentExportsTest() {
+
+        ExportService limited = new ExportService(orderRepository, clientRepository, new ObjectMapper(), 1);
+
+        limited.acquire();
+
+        Throwable exception = catchThrowable(limited::acquire);
+
+        assertThat( exception ).isInstanceOf(ServiceUnavailableException.class);
+
+        limited.release();
+        limited.acquire();
+    }
+
+    @Test
+    @DisplayName("Deve exportar os pedidos em NDJSON, uma linha por pedido.")
+    public void shouldExportOrdersAsNdjsonTest() throws Exception {
+
+        Date from = new Date(0L);
+        Date to = new Date();
+
+        when(orderRepository.streamExport(from, to)).thenReturn(Stream.of(
+                new OrderExportRow(1L, null, "Client", OrderStatus.RECEIVED, 6700L),
+                new OrderExportRow(2L, null, "Client", OrderStatus.DELIVERED, 5028L)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = service.exportOrders(from, to, ExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat( rows ).isEqualTo(2);
+        assertThat( lines ).hasSize(2);
+        assertThat( lines[0] ).contains("\"id\":1").contains("\"status\":\"RECEIVED\"").contains("\"totalCents\":6700");
+        assertThat( lines[1] ).contains("\"id\":2").contains("\"totalCents\":5028");
+        Mockito.verify(orderRepository, Mockito.never()).findAll();
+    }
+}
@@ -0,0 +1,555 @@
+package backend.padua.servicesTest;
+
+import backend.padua.cache.MenuSnapshot;
+import backend.padua.data.dto.NewOrderDTO;
+import backend.padua.data.dto.OrderDTO;
+import backend.padua.data.dto.OrderItemDTO;
+import backend.padua.data.dto.OrderReceiptDTO;
+import backend.padua.data.dto.OrderStatusDTO;
+import backend.padua.data.dto.ProductDTO;
+import backend.padua.data.projections.OrderLineRow;
+import backend.padua.data.projections.OrderStatusView;
+import backend.padua.events.OrderCancelledEvent;
+import backend.padua.events.OrderPlacedEvent;
+import backend.padua.exceptions.BusinessException;
+import backend.padua.exceptions.ResourceNotFoundException;
+import backend.padua.exceptions.UnprocessableEntityException;
+import backend.padua.journal.OrderJournal;
+import backend.padua.model.*;
+import backend.padua.repositories.ClientRepository;
+import backend.padua.repositories.OrderRejectionRepository;
+import backend.padua.repositories.OrderRepository;
+import backend.padua.repositories.OrderSummaryRepository;
+import backend.padua.repositories.ProductRepository;
+import backend.padua.services.OrdersService;
+import backend.padua.services.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+public class OrdersServiceTest {
+
+    OrdersService service;
+
+    @MockBean
+    OrderRepository repository;
+
+    @MockBean
+    ClientRepository clientRepository;
+
+    @MockBean
+    ProductRepository productRepository;
+
+    @MockBean
+    OrderSummaryRepository summaryRepository;
+
+    @MockBean
+    ProductService productService;
+
+    @MockBean
+    OrderRejectionRepository rejectionRepository;
+
+    ApplicationEventPublisher events;
+
+    private OrdersService newService(Optional<OrderJournal> journal, TransactionOperations transactions) {
+        return new OrdersService(repository, clientRepository, productRepository, summaryRepository, events,
+                journal, transactions, productService, rejectionRepository);
+    }
+
+    private OrdersService journaled(OrderJournal journal, ProductService products, OrderRejectionRepository rejections) {
+        return new OrdersService(repository, clientRepository, productRepository, summaryRepository, events,
+                Optional.of(journal), TransactionOperations.withoutTransaction(), products, rejections);
+    }
+
+    @BeforeEach
+    public void setUp(){
+        this.events = Mockito.mock(ApplicationEventPublisher.class);
+        this.service = newService(Optional.empty(), TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    @DisplayName("Deve criar um pedido buscando todos os produtos em uma única consulta.")
+    public void shouldCreateOrderTest(){
+
+        Client client = getClient();
+
+        Category cat = Category.builder().id(1L).name("Category").build();
+
+        Product burger = Product.builder().id(1L).name("Lanche").price(3000L).category(cat).build();
+        Product drink = Product.builder().id(2L).name("Bebida").price(800L).category(cat).build();
+
+        List<OrderItemDTO> itens = new ArrayList<>();
+        itens.add(OrderItemDTO.builder().productId(1L).quantity(2).build());
+        itens.add(OrderItemDTO.builder().productId(2L).quantity(1).discount(1.0).build());
+
+        NewOrderDTO dto = NewOrderDTO.builder().clientId(1L).addressId(1L).itens(itens).build();
+
+        when(clientRepository.findById(1L)).thenReturn(Optional.of(client));
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(burger, drink));
+        when(repository.save(Mockito.any(Order.class))).then(invocation -> {
+            Order order = invocation.getArgument(0);
+            order.setId(1L);
+            return order;
+        });
+
+        OrderDTO result = service.create(dto);
+
+        assertThat(result).isNotNull();
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(result.getClientName()).isEqualTo(client.getName());
+        assertThat(result.getDeliveryAddress()).isEqualTo("Rua, 10 - Bairro, Cidade/Estado");
+        assertThat(result.getItens()).containsExactlyInAnyOrder("2x Lanche", "1x Bebida");
+        assertThat(result.getTotal()).isEqualTo(67.0);
+        assertThat( result.toString().contains("links: [</api/orders/1>;rel=\"self\"]") ).isTrue();
+
+        Mockito.verify(productRepository, Mockito.times(1)).findAllById(anyIterable());
+        Mockito.verify(productRepository, Mockito.never()).findById(Mockito.anyLong());
+        Mockito.verify(summaryRepository, Mockito.times(1)).save(Mockito.argThat(summary ->
+                summary.getId().equals(1L)
+                        && summary.getClientName().equals(client.getName())
+                        && summary.getItens().size() == 2
+                        && summary.getTotal() == 6700L));
+        Mockito.verify(events, Mockito.times(1)).publishEvent(Mockito.<OrderPlacedEvent>argThat(event ->
+                event.order().equals(result)
+                        && event.lines().size() == 2
+                        && event.lines().get(0).revenueCents() == 6000L
+                        && event.lines().get(1).revenueCents() == 700L));
+    }
+
+    @Test
+    @DisplayName("Deve calcular o total do pedido em centavos sem perda de precisão.")
+    public void shouldComputeExactOrderTotalTest(){
+
+        Category cat = Category.builder().id(1L).name("Category").build();
+
+        Product sauce = Product.builder().id(1L).name("Molho").price(10L).category(cat).build();
+        Product fries = Product.builder().id(2L).name("Batata").price(1999L).category(cat).build();
+
+        List<OrderItemDTO> itens = new ArrayList<>();
+        itens.add(OrderItemDTO.builder().productId(1L).quantity(3).build());
+        itens.add(OrderItemDTO.builder().productId(2L).quantity(3).discount(0.33).build());
+
+        NewOrderDTO dto = NewOrderDTO.builder().clientId(1L).addressId(1L).itens(itens).build();
+
+        when(clientRepository.findById(1L)).thenReturn(Optional.of(getClient()));
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(sauce, fries));
+        when(repository.save(Mockito.any(Order.class))).then(invocation -> invocation.getArgument(0));
+
+        service.create(dto);
+
+        Mockito.verify(repository).save(Mockito.argThat(order -> order.getTotal() == 30L + 4998L));
+    }
+
+    @Test
+    @DisplayName("Deve avançar o status do pedido pela versão sem bloquear a linha.")
+    public void shouldUpdateOrderStatusTest(){
+
+        when(repository.findStatusById(1L)).thenReturn(Optional.of(new OrderStatusView(1L, OrderStatus.RECEIVED, 3L)));
+        when(repository.updateStatus(1L, OrderStatus.RECEIVED, OrderStatus.PREPARING, 3L)).thenReturn(1);
+
+        OrderStatusDTO result = service.updateStatus(1L, OrderStatus.PREPARING);
+
+        assertThat( result.getStatus() ).isEqualTo(OrderStatus.PREPARING);
+        assertThat( result.getVersion() ).isEqualTo(4L);
+        assertThat( result.toString().contains("links: [</api/orders/1>;rel=\"self\"]") ).isTrue();
+
+        Mockito.verify(repository, Mockito.never()).findById(Mockito.anyLong());
+        Mockito.verify(summaryRepository, Mockito.times(1)).updateStatus(1L, OrderStatus.PREPARING);
+    }
+
+    @Test
+    @DisplayName("Deve reler o status e tentar novamente quando outro cliente alterar o pedido.")
+    public void shouldRetryOrderStatusOnConflictTest(){
+
+        when(repository.findStatusById(1L)).thenReturn(
+                Optional.of(new OrderStatusView(1L, OrderStatus.RECEIVED, 0L)),
+                Optional.of(new OrderStatusView(1L, OrderStatus.PREPARING, 1L)));
+        when(repository.updateStatus(1L, OrderStatus.RECEIVED, OrderStatus.CANCELLED, 0L)).thenReturn(0);
+        when(repository.updateStatus(1L, OrderStatus.PREPARING, OrderStatus.CANCELLED, 1L)).thenReturn(1);
+
+        OrderStatusDTO result = service.updateStatus(1L, OrderStatus.CANCELLED);
+
+        assertThat( result.getStatus() ).isEqualTo(OrderStatus.CANCELLED);
+        assertThat( result.getVersion() ).isEqualTo(2L);
+
+        Mockito.verify(repository, Mockito.times(2)).findStatusById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve executar cada tentativa de alteração de status em uma transação própria.")
+    public void shouldRetryOrderStatusInNewTransactionTest(){
+
+        AtomicInteger transactions = new AtomicInteger();
+
+        TransactionOperations counting = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                return action.doInTransaction(new SimpleTransactionStatus());
+            }
+        };
+
+        OrdersService transactional = newService(Optional.empty(), counting);
+
+        when(repository.findStatusById(1L)).thenReturn(
+                Optional.of(new OrderStatusView(1L, OrderStatus.RECEIVED, 0L)),
+                Optional.of(new OrderStatusView(1L, OrderStatus.PREPARING, 1L)));
+        when(repository.updateStatus(1L, OrderStatus.RECEIVED, OrderStatus.CANCELLED, 0L)).thenReturn(0);
+        when(repository.updateStatus(1L, OrderStatus.PREPARING, OrderStatus.CANCELLED, 1L)).thenReturn(1);
+
+        OrderStatusDTO result = transactional.updateStatus(1L, OrderStatus.CANCELLED);
+
+        assertThat( result.getStatus() ).isEqualTo(OrderStatus.CANCELLED);
+        assertThat( transactions.get() ).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro de negócio em uma transição de status inválida.")
+    public void shouldNotUpdateOrderStatusWithInvalidTransitionTest(){
+
+        when(repository.findStatusById(1L)).thenReturn(Optional.of(new OrderStatusView(1L, OrderStatus.DELIVERED, 5L)));
+
+        Throwable exception = catchThrowable(() ->
+                service.updateStatus(1L, OrderStatus.PREPARING));
+
+        assertThat(exception)
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Transição de status inválida.");
+
+        Mockito.verify(repository, Mockito.never()).updateStatus(Mockito.anyLong(), Mockito.any(), Mockito.any(), Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro ao tentar criar pedido nulo.")
+    public void shouldNotCreateNullOrderTest(){
+
+        Throwable exception = catchThrowable(() ->
+                service.create(null));
+
+        String expectedMessage = "It is not allowed to persist a null object!";
+        String actualMessage = exception.getMessage();
+
+        assertThat(actualMessage).contains(expectedMessage);
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro ao tentar criar pedido com produto inexistente.")
+    public void shouldNotCreateOrderWithUnknownProductTest(){
+
+        List<OrderItemDTO> itens = new ArrayList<>();
+        itens.add(OrderItemDTO.builder().productId(99L).quantity(1).build());
+
+        NewOrderDTO dto = NewOrderDTO.builder().clientId(1L).addressId(1L).itens(itens).build();
+
+        when(clientRepository.findById(1L)).thenReturn(Optional.of(getClient()));
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of());
+
+        Throwable exception = catchThrowable(() ->
+                service.create(dto));
+
+        assertThat(exception.getMessage()).contains("No records found for this product!");
+        Mockito.verify(repository, Mockito.never()).save(Mockito.any(Order.class));
+        Mockito.verify(events, Mockito.never()).publishEvent(Mockito.any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro de negócio ao repetir um produto no pedido.")
+    public void shouldNotCreateOrderWithRepeatedProductTest(){
+
+        List<OrderItemDTO> itens = new ArrayList<>();
+        itens.add(OrderItemDTO.builder().productId(1L).quantity(1).build());
+        itens.add(OrderItemDTO.builder().productId(1L).quantity(2).build());
+
+        NewOrderDTO dto = NewOrderDTO.builder().clientId(1L).addressId(1L).itens(itens).build();
+
+        when(clientRepository.findById(1L)).thenReturn(Optional.of(getClient()));
+
+        Throwable exception = catchThrowable(() ->
+                service.create(dto));
+
+        assertThat(exception).isInstanceOf(BusinessException.class);
+        assertThat(exception.getMessage()).contains("Produto repetido no pedido.");
+    }
+
+    @Test
+    @DisplayName("Deve buscar o pedido na visão desnormalizada sem consultar as tabelas do pedido.")
+    public void findByIdFromSummaryTest(){
+
+        OrderSummary summary = OrderSummary.builder().id(1L).date(new Date()).clientName("Cliente")
+                .deliveryAddress("Rua, 10 - Bairro, Cidade/Estado").itens(List.of("2x Lanche"))
+                .status(OrderStatus.READY).total(6000L).build();
+
+        when(summaryRepository.findById(1L)).thenReturn(Optional.of(summary));
+
+        OrderDTO result = service.findById(1L);
+
+        assertThat( result.getClientName() ).isEqualTo("Cliente");
+        assertThat( result.getItens() ).containsExactly("2x Lanche");
+        assertThat( result.getStatus() ).isEqualTo("READY");
+        assertThat( result.getTotal() ).isEqualTo(60.0);
+        assertThat( result.toString().contains("links: [</api/orders/1>;rel=\"self\"]") ).isTrue();
+
+        Mockito.verify(repository, Mockito.never()).findById(Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve listar os pedidos a partir da visão desnormalizada.")
+    public void findAllFromSummaryTest(){
+
+        OrderSummary summary = OrderSummary.builder().id(1L).date(new Date()).clientName("Cliente")
+                .itens(List.of("1x Bebida")).status(OrderStatus.RECEIVED).total(800L).build();
+
+        when(summaryRepository.findAllByOrderByIdAsc()).thenReturn(List.of(summary));
+
+        List<OrderDTO> result = service.findAll();
+
+        assertThat( result ).hasSize(1);
+        assertThat( result.get(0).getItens() ).containsExactly("1x Bebida");
+
+        Mockito.verify(repository, Mockito.never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve gravar o pedido no journal e devolver o recibo sem acessar o banco.")
+    public void shouldAcceptOrderIntoJournalTest(){
+
+        OrderJournal journal = Mockito.mock(OrderJournal.class);
+        OrdersService journaled = newService(Optional.of(journal), TransactionOperations.withoutTransaction());
+
+        when(productService.findAllSnapshot()).thenReturn(new MenuSnapshot<>(1L,
+                List.of(new ProductDTO(1L, "Lanche", 30.0, "Lanches")), ProductDTO::getId));
+
+        List<OrderItemDTO> itens = List.of(OrderItemDTO.builder().productId(1L).quantity(1).build());
+        NewOrderDTO dto = NewOrderDTO.builder().clientId(1L).addressId(1L).itens(itens).build();
+
+        when(journal.append(dto)).thenReturn(42L);
+
+        OrderReceiptDTO receipt = journaled.accept(dto);
+
+        assertThat( journaled.isJournaled() ).isTrue();
+        assertThat( receipt.getReceipt() ).isEqualTo(42L);
+        assertThat( receipt.getStatus() ).isEqualTo("RECEIVED");
+        assertThat( receipt.toString().contains("links: [</api/orders/receipts/42>;rel=\"self\"]") ).isTrue();
+
+        Mockito.verifyNoInteractions(repository, clientRepository, productRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar no recebimento um pedido com produto fora do cardápio.")
+    public void shouldNotAcceptUnknownProductTest(){
+
+        OrderJournal journal = Mockito.mock(OrderJournal.class);
+        ProductService products = Mockito.mock(ProductService.class);
+        OrdersService journaled = journaled(journal, products, Mockito.mock(OrderRejectionRepository.class));
+
+        when(products.findAllSnapshot()).thenReturn(new MenuSnapshot<>(1L,
+                List.of(new ProductDTO(1L, "Lanche", 30.0, "Lanches")), ProductDTO::getId));
+
+        List<OrderItemDTO> itens = List.of(OrderItemDTO.builder().productId(2L).quantity(1).build());
+        NewOrderDTO dto = NewOrderDTO.builder().clientId(1L).addressId(1L).itens(itens).build();
+
+        Throwable exception = catchThrowable(() -> journaled.accept(dto));
+
+        assertThat( exception ).isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("No records found for this product!");
+        Mockito.verify(journal, Mockito.never()).append(Mockito.any(NewOrderDTO.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar no recebimento um desconto maior que o preço do produto.")
+    public void shouldNotAcceptInvalidDiscountTest(){
+
+        OrderJournal journal = Mockito.mock(OrderJournal.class);
+        ProductService products = Mockito.mock(ProductService.class);
+        OrdersService journaled = journaled(journal, products, Mockito.mock(OrderRejectionRepository.class));
+
+        when(products.findAllSnapshot()).thenReturn(new MenuSnapshot<>(1L,
+                List.of(new ProductDTO(1L, "Lanche", 30.0, "Lanches")), ProductDTO::getId));
+
+        List<OrderItemDTO> itens = List.of(OrderItemDTO.builder().productId(1L).quantity(1).discount(31.0).build());
+        NewOrderDTO dto = NewOrderDTO.builder().clientId(1L).addressId(1L).itens(itens).build();
+
+        Throwable exception = catchThrowable(() -> journaled.accept(dto));
+
+        assertThat( exception ).isInstanceOf(BusinessException.class)
+                .hasMessage("Desconto inválido para o produto.");
+        Mockito.verify(journal, Mockito.never()).append(Mockito.any(NewOrderDTO.class));
+    }
+
+    @Test
+    @DisplayName("Deve informar o motivo quando o pedido do recibo foi rejeitado.")
+    public void shouldFailRejectedReceiptTest(){
+
+        OrderRejectionRepository rejections = Mockito.mock(OrderRejectionRepository.class);
+        OrdersService journaled = journaled(Mockito.mock(OrderJournal.class), Mockito.mock(ProductService.class), rejections);
+
+        when(repository.findIdByJournalSeq(42L)).thenReturn(Optional.empty());
+        when(rejections.findById(42L)).thenReturn(Optional.of(
+                new OrderRejection(42L, "No records found for this client!", new Date())));
+
+        Throwable exception = catchThrowable(() -> journaled.findByReceipt(42L));
+
+        assertThat( exception ).isInstanceOf(UnprocessableEntityException.class)
+                .hasMessage("No records found for this client!");
+    }
+
+    @Test
+    @DisplayName("Deve indicar recibo pendente enquanto o pedido não foi aplicado.")
+    public void shouldFindPendingReceiptTest(){
+
+        OrderJournal journal = Mockito.mock(OrderJournal.class);
+        OrderRejectionRepository rejections = Mockito.mock(OrderRejectionRepository.class);
+        OrdersService journaled = journaled(journal, Mockito.mock(ProductService.class), rejections);
+
+        when(repository.findIdByJournalSeq(Mockito.anyLong())).thenReturn(Optional.empty());
+        when(rejections.findById(Mockito.anyLong())).thenReturn(Optional.empty());
+        when(journal.durableSeq()).thenReturn(42L);
+
+        assertThat( journaled.findByReceipt(42L) ).isEmpty();
+
+        Throwable exception = catchThrowable(() -> journaled.findByReceipt(43L));
+
+        assertThat( exception ).isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("No records found for this receipt!");
+    }
+
+    @Test
+    @DisplayName("Deve considerar os pedidos rejeitados na última sequência aplicada.")
+    public void shouldCountRejectedInLastAppliedReceiptTest(){
+
+        OrderRejectionRepository rejections = Mockito.mock(OrderRejectionRepository.class);
+        OrdersService journaled = journaled(Mockito.mock(OrderJournal.class), Mockito.mock(ProductService.class), rejections);
+
+        when(repository.findMaxJournalSeq()).thenReturn(Optional.of(40L));
+        when(rejections.findMaxReceipt()).thenReturn(Optional.of(42L));
+
+        journaled.reject(43L, "x".repeat(300));
+
+        assertThat( journaled.lastAppliedReceipt() ).isEqualTo(42L);
+        Mockito.verify(rejections).save(Mockito.argThat(rejection ->
+                rejection.getReceipt() == 43L && rejection.getReason().length() == OrderRejection.REASON_LENGTH));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar um pedido do journal que já foi gravado no banco.")
+    public void shouldSkipAppliedJournalEntryTest(){
+
+        when(repository.existsByJournalSeq(42L)).thenReturn(true);
+
+        OrderDTO result = service.apply(42L, new Date(), NewOrderDTO.builder().clientId(1L).build());
+
+        assertThat( result ).isNull();
+
+        Mockito.verifyNoInteractions(clientRepository);
+        Mockito.verify(repository, Mockito.never()).save(Mockito.any(Order.class));
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro ao buscar uma lista de pedidos vazia.")
+    public void emptyOrdersFindAllTest() {
+
+        Throwable exception = catchThrowable(() ->
+                service.findAll());
+
+        String expectedMessage = "No orders found!";
+        String actualMessage = exception.getMessage();
+
+        assertThat(actualMessage).contains(expectedMessage);
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro ao tentar buscar pedido nulo por Id.")
+    public void orderNotFoundByIdTest(){
+
+        Throwable exception = catchThrowable(() ->
+                service.findById(null));
+
+        String expectedMessage = "No records found for this id!";
+        String actualMessage = exception.getMessage();
+
+        assertThat(actualMessage).contains(expectedMessage);
+    }
+
+    @Test
+    @DisplayName("Deve publicar o cancelamento com os itens do pedido para descontar dos relatórios.")
+    public void shouldPublishCancelledOrderTest(){
+
+        Date placedAt = new Date();
+
+        when(repository.findStatusById(1L)).thenReturn(Optional.of(new OrderStatusView(1L, OrderStatus.RECEIVED, 0L)));
+        when(repository.updateStatus(1L, OrderStatus.RECEIVED, OrderStatus.CANCELLED, 0L)).thenReturn(1);
+        when(repository.findLinesByOrderId(1L)).thenReturn(List.of(
+                new OrderLineRow(1L, placedAt, 1L, "Lanche", 10L, "Lanches", 2, 6000L)));
+
+        service.updateStatus(1L, OrderStatus.CANCELLED);
+
+        Mockito.verify(events, Mockito.times(1)).publishEvent(Mockito.<OrderCancelledEvent>argThat(event ->
+                event.orderId().equals(1L) && event.placedAt() == placedAt
+                        && event.lines().size() == 1 && event.lines().get(0).revenueCents() == 6000L));
+    }
+
+    @Test
+    @DisplayName("Deve publicar o cancelamento ao deletar um pedido ainda não cancelado.")
+    public void shouldPublishCancelledOnDeleteTest(){
+
+        Order entity = new Order();
+        entity.setId(1L);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+        when(repository.findLinesByOrderId(1L)).thenReturn(List.of(
+                new OrderLineRow(1L, new Date(), 1L, "Lanche", 10L, "Lanches", 1, 3000L)));
+
+        service.delete(1L);
+
+        Mockito.verify(events, Mockito.times(1)).publishEvent(Mockito.any(OrderCancelledEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve deletar um pedido.")
+    public void shouldDeleteOrderTest(){
+
+        Order entity = new Order();
+        entity.setId(1L);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+
+        service.delete(1L);
+
+        Mockito.verify(repository, Mockito.times(1)).delete(entity);
+        Mockito.verify(summaryRepository, Mockito.times(1)).deleteById(1L);
+    }
+
+    private static Client getClient() {
+
+        Address ad = Address.builder().id(1L).address("Rua").neighborhood("Bairro").number(10)
+                .complement(null).city("Cidade").state("Estado").cep("000000000").build();
+
+        List<Address> adList = new ArrayList<>();
+        adList.add(ad);
+
+        Set<String> phone = new HashSet<>();
+        phone.add("00123456789");
+
+        return Client.builder().id(1L).name("Client").email("x@xx.com")
+                .cpf("123456789").addresses(adList).telephones(phone).build();
+    }
+}
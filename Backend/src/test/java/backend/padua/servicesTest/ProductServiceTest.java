@@ -1,7 +1,9 @@
 package backend.padua.servicesTest;
 
-import backend.padua.data.dto.CategoryDTO;
+import backend.padua.data.dto.BulkResultDTO;
 import backend.padua.data.dto.ProductDTO;
+import backend.padua.data.projections.ProductView;
+import backend.padua.exceptions.BusinessException;
 import backend.padua.model.Category;
 import backend.padua.model.Product;
 import backend.padua.repositories.ProductRepository;
@@ -11,10 +13,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.Mockito;
-import org.mockito.Spy;
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
@@ -38,33 +40,28 @@ public class ProductServiceTest {
     @MockBean
     ProductRepository repository;
 
-    @Spy
-    ModelMapper modelMapper;
-
     @BeforeEach
     public void setUp(){
-        this.service = new ProductService(repository, catService, modelMapper);
+        this.service = new ProductService(repository, catService);
     }
 
     @Test
     @DisplayName("Deve salvar um produto.")
     public void createProductTest() {
 
-        ProductDTO dto = ProductDTO.builder().name("Product").price(10.0).category("Category").build();
-
-        CategoryDTO catDto = CategoryDTO.builder().id(1L).name("Category").build();
+        ProductDTO dto = ProductDTO.builder().name("Product").price(1000L).category("Category").build();
 
         Category cat = Category.builder().id(1L).name("Category").build();
 
-        Product entity = Product.builder().name("Product").price(10.0).category(cat).build();
+        Product entity = Product.builder().name("Product").price(1000L).category(cat).build();
 
         Product persisted = entity;
         persisted.setId(1L);
 
         dto.setId(1L);
 
-        when(catService.findByName(catDto.getName())).thenReturn(catDto);
-        when(repository.save(entity)).thenReturn(persisted);
+        when(catService.findEntityByName("Category")).thenReturn(cat);
+        when(repository.saveAndFlush(entity)).thenReturn(persisted);
 
         ProductDTO result = service.create(dto);
 
@@ -93,6 +90,41 @@ public class ProductServiceTest {
         assertThat(actualMessage).contains(expectedMessage);
     }
 
+    @Test
+    @DisplayName("Deve salvar uma carga de produtos em lote.")
+    public void createAllProductsTest() {
+
+        List<ProductDTO> dtos = new ArrayList<>();
+        dtos.add(ProductDTO.builder().name("Product1").price(1000L).category("Category").build());
+        dtos.add(ProductDTO.builder().name("Product2").price(20.0).category("Category").build());
+
+        when(catService.findEntityByName("Category")).thenReturn(Category.builder().id(1L).name("Category").build());
+        when(repository.insertAll(Mockito.anyList(), Mockito.anyInt())).thenAnswer(i -> i.<List<?>>getArgument(0).size());
+
+        BulkResultDTO result = service.createAll(dtos);
+
+        assertThat( result.getCreated() ).isEqualTo(2);
+        Mockito.verify(catService, Mockito.times(2)).findEntityByName("Category");
+        Mockito.verify(catService, Mockito.never()).findByName(Mockito.anyString());
+        Mockito.verify(repository, Mockito.never()).saveAndFlush(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro ao carregar produtos com nome já cadastrado.")
+    public void createAllDuplicatedProductsTest() {
+
+        List<ProductDTO> dtos = new ArrayList<>();
+        dtos.add(ProductDTO.builder().name("Product1").price(1000L).category("Category").build());
+
+        when(catService.findEntityByName("Category")).thenReturn(Category.builder().id(1L).name("Category").build());
+        when(repository.insertAll(Mockito.anyList(), Mockito.anyInt())).thenThrow(new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("duplicate", null, Product.UNIQUE_NAME)));
+
+        Throwable exception = catchThrowable(() -> service.createAll(dtos));
+
+        assertThat( exception ).isInstanceOf(BusinessException.class).hasMessage("Nome já cadastrado.");
+    }
+
     @Test
     @DisplayName("Deve atualizar um produto.")
     public void updateProductTest(){
@@ -103,7 +135,7 @@ public class ProductServiceTest {
 
         Category cat = Category.builder().id(id).name("Category").build();
 
-        Product entity = Product.builder().name("Product").price(10.0).category(cat).build();
+        Product entity = Product.builder().name("Product").price(1000L).category(cat).build();
 
         Product persisted = entity;
         persisted.setId(id);
@@ -111,7 +143,7 @@ public class ProductServiceTest {
         dto.setId(id);
 
         when(repository.findById(id)).thenReturn(Optional.of(entity));
-        when(repository.save(entity)).thenReturn(persisted);
+        when(repository.saveAndFlush(entity)).thenReturn(persisted);
 
         ProductDTO result = service.update(dto);
 
@@ -125,6 +157,26 @@ public class ProductServiceTest {
         assertThat( result.toString().contains("links: [</api/products/1>;rel=\"self\"]") ).isTrue();
     }
 
+    @Test
+    @DisplayName("Deve rejeitar um preço com mais de duas casas decimais.")
+    public void updateProductWithInvalidPriceTest(){
+
+        Category cat = Category.builder().id(1L).name("Category").build();
+
+        Product entity = Product.builder().id(1L).name("Product").price(1000L).category(cat).build();
+
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+
+        Throwable exception = catchThrowable(() ->
+                service.update(ProductDTO.builder().id(1L).name("Product").price(10.005).category("Category").build()));
+
+        assertThat(exception)
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("Valor monetário inválido.");
+
+        Mockito.verify(repository, Mockito.never()).saveAndFlush(Mockito.any(Product.class));
+    }
+
     @Test
     @DisplayName("Deve lançar erro ao tentar atualizar produto nulo.")
     public void updateWithNullProductTest(){
@@ -142,8 +194,6 @@ public class ProductServiceTest {
     @DisplayName("Deve obter uma lista dos produtos.")
     public void findAllProductsTest(){
 
-        Category cat = Category.builder().name("Category").build();
-
         ProductDTO dtoProduct1 = ProductDTO.builder().id(1L).name("Product1").category("Category").build();
         ProductDTO dtoProduct2 = ProductDTO.builder().id(2L).name("Product2").category("Category").build();
         ProductDTO dtoProduct3 = ProductDTO.builder().id(3L).name("Product3").category("Category").build();
@@ -154,17 +204,17 @@ public class ProductServiceTest {
         dtoProducts.add(dtoProduct2);
         dtoProducts.add(dtoProduct3);
 
-        Product product1 = Product.builder().id(1L).name("Product1").category(cat).build();
-        Product product2 = Product.builder().id(2L).name("Product2").category(cat).build();
-        Product product3 = Product.builder().id(3L).name("Product3").category(cat).build();
+        ProductView product1 = new ProductView(1L, "Product1", null, "Category");
+        ProductView product2 = new ProductView(2L, "Product2", null, "Category");
+        ProductView product3 = new ProductView(3L, "Product3", null, "Category");
 
-        List<Product> products = new ArrayList<>();
+        List<ProductView> products = new ArrayList<>();
 
         products.add(product1);
         products.add(product2);
         products.add(product3);
 
-        when(repository.findAll()).thenReturn(products);
+        when(repository.findAllViews()).thenReturn(products);
 
         List<ProductDTO> foundProducts = service.findAll();
 
@@ -197,6 +247,42 @@ public class ProductServiceTest {
         assertThat( prod3.toString().contains("links: [</api/products/3>;rel=\"self\"]") ).isTrue();
     }
 
+    @Test
+    @DisplayName("Deve servir a lista de produtos do snapshot em memória até uma alteração.")
+    public void findAllFromSnapshotTest(){
+
+        Category cat = Category.builder().id(1L).name("Category").build();
+
+        Product entity = Product.builder().id(1L).name("Product").price(1000L).category(cat).build();
+
+        when(repository.findAllViews()).thenReturn(
+                List.of(new ProductView(1L, "Product", 1000L, "Category")),
+                List.of(new ProductView(1L, "newProduct", 1200L, "Category")));
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+        when(repository.saveAndFlush(entity)).thenReturn(entity);
+
+        List<ProductDTO> first = service.findAll();
+        ProductDTO byId = service.findById(1L);
+
+        Throwable exception = catchThrowable(() -> byId.setName("changed"));
+
+        assertThat( exception ).isInstanceOf(UnsupportedOperationException.class);
+        assertThat( byId ).isSameAs(first.get(0));
+        assertThat( service.findAll() ).isSameAs(first);
+        assertThat( first.get(0).getName() ).isEqualTo("Product");
+        assertThat( first.get(0).toString().contains("links: [</api/products/1>;rel=\"self\"]") ).isTrue();
+        Mockito.verify(repository, Mockito.times(1)).findAllViews();
+        Mockito.verify(repository, Mockito.never()).findById(1L);
+
+        service.update(ProductDTO.builder().id(1L).name("newProduct").price(12.0).category("Category").build());
+
+        List<ProductDTO> rebuilt = service.findAll();
+
+        assertThat( rebuilt ).isNotSameAs(first);
+        assertThat( rebuilt.get(0).getName() ).isEqualTo("newProduct");
+        assertThat( service.findAllSnapshot().getVersion() ).isEqualTo(2);
+    }
+
     @Test
     @DisplayName("Deve lançar erro ao buscar uma lista de produtos vazia.")
     public void emptyProductsFindAllTest() {
@@ -216,9 +302,9 @@ public class ProductServiceTest {
 
         Long id = 1L;
 
-        Category cat = Category.builder().id(id).name("Category").build();
+        Category cat = Category.builder().id(1L).name("Category").build();
 
-        Product prod = Product.builder().id(id).name("Product").price(10.0).category(cat).build();
+        Product prod = Product.builder().id(id).name("Product").price(1000L).category(cat).build();
 
         when(repository.findById(id)).thenReturn(Optional.of(prod));
 
@@ -229,8 +315,8 @@ public class ProductServiceTest {
 
         assertThat( foundProd.getId() ).isEqualTo(id);
         assertThat( foundProd.getName() ).isEqualTo(prod.getName());
-        assertThat( foundProd.getPrice() ).isEqualTo(prod.getPrice());
-        assertThat( foundProd.getCategory() ).isEqualTo(prod.getCategory().getName());
+        assertThat( foundProd.getPrice() ).isEqualTo(10.0);
+        assertThat( foundProd.getCategory() ).isEqualTo(cat.getName());
         assertThat( foundProd.toString().contains("links: [</api/products/1>;rel=\"self\"]") ).isTrue();
     }
 
@@ -255,7 +341,7 @@ public class ProductServiceTest {
 
         Category cat = Category.builder().id(id).name("Category").build();
 
-        Product entity = Product.builder().name("Product").price(10.0).category(cat).build();
+        Product entity = Product.builder().name("Product").price(1000L).category(cat).build();
 
         entity.setId(id);
 
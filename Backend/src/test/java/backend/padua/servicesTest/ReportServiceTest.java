@@ -0,0 +1,110 @@
+package backend.padua.servicesTest;
+
+import backend.padua.data.dto.SalesReportDTO;
+import backend.padua.events.SalesAggregator;
+import backend.padua.exceptions.BusinessException;
+import backend.padua.model.SalesAggregate;
+import backend.padua.model.SalesDimension;
+import backend.padua.model.SalesGranularity;
+import backend.padua.repositories.SalesAggregateRepository;
+import backend.padua.services.ReportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(SpringExtension.class)
+@ActiveProfiles("test")
+public class ReportServiceTest {
+
+    ReportService service;
+
+    @MockBean
+    SalesAggregateRepository repository;
+
+    @MockBean
+    SalesAggregator aggregator;
+
+    @BeforeEach
+    public void setUp(){
+        this.service = new ReportService(repository, aggregator);
+    }
+
+    @Test
+    @DisplayName("Deve montar o relatório a partir dos agregados do período.")
+    public void salesTest(){
+
+        LocalDate day = LocalDate.of(2024, 5, 10);
+
+        SalesAggregate row = SalesAggregate.builder()
+                .granularity(SalesGranularity.DAY)
+                .dimension(SalesDimension.CATEGORY)
+                .bucket(day.atStartOfDay())
+                .dimensionId(10L)
+                .dimensionName("Lanches")
+                .quantity(4L)
+                .revenueCents(12550L)
+                .orders(2L)
+                .build();
+
+        when(repository.findByGranularityAndDimensionAndBucketGreaterThanEqualAndBucketLessThanOrderByBucketAscDimensionIdAsc(
+                SalesGranularity.DAY, SalesDimension.CATEGORY, day.atStartOfDay(), LocalDateTime.of(2024, 5, 11, 0, 0)))
+                .thenReturn(List.of(row));
+
+        List<SalesReportDTO> report = service.sales(SalesGranularity.DAY, SalesDimension.CATEGORY, day, day);
+
+        assertThat(report).hasSize(1);
+        assertThat(report.get(0).getBucket()).isEqualTo("2024-05-10T00:00:00");
+        assertThat(report.get(0).getName()).isEqualTo("Lanches");
+        assertThat(report.get(0).getQuantity()).isEqualTo(4L);
+        assertThat(report.get(0).getRevenue()).isEqualTo(125.5);
+        assertThat(report.get(0).getOrders()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar erro quando o período for inválido.")
+    public void salesInvalidPeriodTest(){
+
+        Throwable exception = catchThrowable(() -> service.sales(SalesGranularity.DAY, SalesDimension.PRODUCT,
+                LocalDate.of(2024, 5, 10), LocalDate.of(2024, 5, 9)));
+
+        assertThat(exception).isInstanceOf(BusinessException.class).hasMessage("Período inválido.");
+
+        Mockito.verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve recalcular os agregados do período informado.")
+    public void reconcileTest(){
+
+        LocalDate from = LocalDate.of(2024, 5, 1);
+        LocalDate to = LocalDate.of(2024, 5, 10);
+
+        when(aggregator.reconcile(from, to)).thenReturn(12);
+
+        assertThat( service.reconcile(from, to) ).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Deve recusar o recálculo de um período inválido.")
+    public void reconcileInvalidPeriodTest(){
+
+        Throwable exception = catchThrowable(() ->
+                service.reconcile(LocalDate.of(2024, 5, 10), LocalDate.of(2024, 5, 1)));
+
+        assertThat( exception ).isInstanceOf(BusinessException.class);
+        Mockito.verifyNoInteractions(aggregator);
+    }
+}